@@ -0,0 +1,69 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of parallel batches with the pool size, run with {@code -PjmhIncludes=BatchParallelBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchParallelBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    int threads;
+
+    @Param({"4194304"})
+    int size;
+
+    private long[] millis;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(7);
+        millis = new long[size];
+        for (int i = 0; i < size; i++) {
+            millis[i] = 1_600_000_000_000L + (random.nextLong() & 0xFFFFFFFFFL);
+        }
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long[] operations() {
+        return DateFlow.fromAll(millis)
+                .parallel(pool)
+                .plusMonths(1)
+                .minusMonths(1)
+                .resetMidnightTime()
+                .as()
+                .millis();
+    }
+
+    @Benchmark
+    public int[] zonedDays() {
+        return DateFlow.fromAll(millis)
+                .parallel(pool)
+                .as()
+                .zoneId(ZoneId.of("America/New_York"))
+                .day();
+    }
+}
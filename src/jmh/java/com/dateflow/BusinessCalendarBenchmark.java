@@ -0,0 +1,64 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BusinessCalendarBenchmark {
+
+    @Param({"5", "250"})
+    int days;
+
+    private final LocalDate start = LocalDate.of(2021, 12, 20);
+    private Set<LocalDate> holidays;
+    private BusinessCalendar calendar;
+
+    @Setup
+    public void setUp() {
+        holidays = new HashSet<>();
+        for (int year = 2000; year <= 2040; year++) {
+            holidays.add(LocalDate.of(year, 1, 1));
+            holidays.add(LocalDate.of(year, 5, 1));
+            holidays.add(LocalDate.of(year, 12, 25));
+            holidays.add(LocalDate.of(year, 12, 26));
+        }
+        calendar = BusinessCalendar.of(holidays);
+    }
+
+    @Benchmark
+    public LocalDate holidaySetLoop() {
+        LocalDate date = start;
+        for (int remaining = days; remaining > 0; ) {
+            date = date.plusDays(1);
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY
+                    && !holidays.contains(date)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+
+    @Benchmark
+    public LocalDate calendar() {
+        return calendar.plusBusinessDays(start, days);
+    }
+
+    @Benchmark
+    public long calendarBetween() {
+        return calendar.businessDaysBetween(start, start.plusDays(days));
+    }
+}
@@ -0,0 +1,56 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateFieldsBenchmark {
+
+    @Param({"UTC", "Europe/Warsaw", "America/New_York"})
+    String zone;
+
+    private TransformerFlow transformerFlow;
+    private MutableDateFields fields;
+
+    @Setup
+    public void setUp() {
+        transformerFlow = DateFlow
+                .from(Instant.parse("2021-12-04T22:35:46.786Z"))
+                .as()
+                .zoneId(ZoneId.of(zone));
+        fields = new MutableDateFields();
+    }
+
+    @Benchmark
+    public void individualGetters(Blackhole blackhole) {
+        blackhole.consume(transformerFlow.year());
+        blackhole.consume(transformerFlow.month());
+        blackhole.consume(transformerFlow.day());
+        blackhole.consume(transformerFlow.hour());
+        blackhole.consume(transformerFlow.minutes());
+        blackhole.consume(transformerFlow.seconds());
+    }
+
+    @Benchmark
+    public DateFields valueObject() {
+        return transformerFlow.fields();
+    }
+
+    @Benchmark
+    public MutableDateFields reusableHolder() {
+        return transformerFlow.fields(fields);
+    }
+}
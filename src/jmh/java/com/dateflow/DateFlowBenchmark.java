@@ -0,0 +1,107 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateFlowBenchmark {
+
+    @Param({
+            "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'",
+            "yyyy-MM-dd HH:mm:ss",
+            "yyyy-MM-dd",
+            "yyyyMMddHHmmss",
+            "dd MMM yyyy HH:mm"})
+    String pattern;
+
+    private long millis;
+    private Instant instant;
+    private Date date;
+    private LocalDate localDate;
+    private LocalDateTime localDateTime;
+    private String text;
+    private String malformed;
+
+    @Setup
+    public void setUp() {
+        instant = Instant.parse("2021-12-04T22:35:46.786Z");
+        millis = instant.toEpochMilli();
+        date = Date.from(instant);
+        localDate = LocalDate.of(2021, 12, 4);
+        localDateTime = LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        text = new SimpleDateFormat(pattern).format(date);
+        malformed = text.substring(0, 5) + "x" + text.substring(6);
+    }
+
+    @Benchmark
+    public OperationsFlow now() {
+        return DateFlow.now();
+    }
+
+    @Benchmark
+    public OperationsFlow fromMillis() {
+        return DateFlow.from(millis);
+    }
+
+    @Benchmark
+    public OperationsFlow fromInstant() {
+        return DateFlow.from(instant);
+    }
+
+    @Benchmark
+    public OperationsFlow fromDate() {
+        return DateFlow.from(date);
+    }
+
+    @Benchmark
+    public OperationsFlow fromLocalDate() {
+        return DateFlow.from(localDate);
+    }
+
+    @Benchmark
+    public OperationsFlow fromLocalDateTime() {
+        return DateFlow.from(localDateTime);
+    }
+
+    @Benchmark
+    public OperationsFlow fromString() throws ParseException {
+        return DateFlow.from(text, pattern);
+    }
+
+    @Benchmark
+    public OperationsFlow fromMalformedString() {
+        try {
+            return DateFlow.from(malformed, pattern);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Optional<OperationsFlow> tryFromString() {
+        return DateFlow.tryFrom(text, pattern);
+    }
+
+    @Benchmark
+    public Optional<OperationsFlow> tryFromMalformedString() {
+        return DateFlow.tryFrom(malformed, pattern);
+    }
+}
@@ -0,0 +1,57 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DayIndexBenchmark {
+
+    @Param({"Europe/Warsaw", "America/Sao_Paulo"})
+    String zone;
+
+    private ZoneId zoneId;
+    private long[] source;
+    private long[] millis;
+
+    @Setup
+    public void setUp() {
+        zoneId = ZoneId.of(zone);
+        var random = new Random(3);
+        source = new long[65_536];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = 1_500_000_000_000L + (random.nextLong() & 0x3FFFFFFFFFL);
+        }
+        millis = new long[source.length];
+    }
+
+    @Benchmark
+    public long[] zonedDateTimeTruncation() {
+        for (int i = 0; i < source.length; i++) {
+            millis[i] = Instant.ofEpochMilli(source[i]).atZone(zoneId).truncatedTo(ChronoUnit.DAYS).toInstant().toEpochMilli();
+        }
+        return millis;
+    }
+
+    @Benchmark
+    public long[] dayIndexTruncation() {
+        System.arraycopy(source, 0, millis, 0, source.length);
+        return DateFlow.fromAll(millis)
+                .resetMidnightTime(zoneId)
+                .as()
+                .millis();
+    }
+}
@@ -0,0 +1,75 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static com.dateflow.Constants.DATE_FORMAT;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IsoTimestampParserBenchmark {
+
+    // Same fields as DATE_FORMAT, spelled differently so the fixed width layout is not recognised
+    private static final String GENERAL_FORMAT = "yyyy-MM-dd'T'HH:mm:ss'.'SSS'Z'";
+
+    private DateParser swar;
+    private DateParser general;
+    private SimpleDateFormat simpleDateFormat;
+    private String text;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        ZoneId utc = ZoneId.of("UTC");
+        swar = DateParser.of(DATE_FORMAT, utc);
+        general = DateParser.of(GENERAL_FORMAT, utc);
+        simpleDateFormat = new SimpleDateFormat(DATE_FORMAT);
+        simpleDateFormat.setTimeZone(TimeZone.getTimeZone(utc));
+        simpleDateFormat.setLenient(false);
+        text = "2021-12-04T22:35:46.786Z";
+        bytes = text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public long swarString() throws ParseException {
+        return swar.parse(text);
+    }
+
+    @Benchmark
+    public long swarBytes() throws ParseException {
+        return swar.parse(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long generalString() throws ParseException {
+        return general.parse(text);
+    }
+
+    @Benchmark
+    public long generalBytes() throws ParseException {
+        return general.parse(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long simpleDateFormat() throws ParseException {
+        return simpleDateFormat.parse(text).getTime();
+    }
+
+    @Benchmark
+    public OperationsFlow fromString() throws ParseException {
+        return DateFlow.from(text, DATE_FORMAT);
+    }
+}
@@ -0,0 +1,62 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.dateflow.Constants.DATE_FORMAT;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MultiPatternParserBenchmark {
+
+    private static final List<String> PATTERNS = List.of("yyyy-MM-dd HH:mm:ss", "dd/MM/yyyy HH:mm", "yyyyMMddHHmmss", DATE_FORMAT);
+
+    private static final String[] ALTERNATING = {"2021-12-04 22:35:46", "04/12/2021 22:35", "20211204223546", "2021-12-04T22:35:46.786Z"};
+
+    private MultiPatternParser parser;
+    private MultiPatternParser alternatingParser;
+    private String text;
+    private int row;
+
+    @Setup
+    public void setUp() {
+        parser = MultiPatternParser.of(PATTERNS, ZoneId.of("UTC"));
+        alternatingParser = MultiPatternParser.of(PATTERNS, ZoneId.of("UTC"));
+        text = "2021-12-04T22:35:46.786Z";
+    }
+
+    @Benchmark
+    public long adaptive() throws ParseException {
+        return parser.parse(text);
+    }
+
+    // Every row misses the recent pattern, the worst case for reordering.
+    @Benchmark
+    public long alternating() throws ParseException {
+        row = (row + 1) & (ALTERNATING.length - 1);
+        return alternatingParser.parse(ALTERNATING[row]);
+    }
+
+    @Benchmark
+    public long eachPatternInTurn() throws ParseException {
+        for (String pattern : PATTERNS) {
+            try {
+                return DateParser.of(pattern, ZoneId.of("UTC")).parse(text);
+            } catch (ParseException e) {
+                // next pattern
+            }
+        }
+        throw new ParseException(text, 0);
+    }
+}
@@ -0,0 +1,107 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OperationsFlowBenchmark {
+
+    private static final long MILLIS = Instant.parse("2021-12-04T22:35:46.786Z").toEpochMilli();
+
+    @Param({"1", "5", "10"})
+    int chainLength;
+
+    @Benchmark
+    public Instant chain() {
+        var operationsFlow = DateFlow.from(MILLIS);
+        for (int i = 0; i < chainLength; i++) {
+            switch (i % 5) {
+                case 0:
+                    operationsFlow.plusDays(1);
+                    break;
+                case 1:
+                    operationsFlow.plusHours(3);
+                    break;
+                case 2:
+                    operationsFlow.minusMinutes(15);
+                    break;
+                case 3:
+                    operationsFlow.minusMonths(1);
+                    break;
+                default:
+                    operationsFlow.resetMidnightTime();
+            }
+        }
+        return operationsFlow.as().instant();
+    }
+
+    @Benchmark
+    public Instant plusSeconds() {
+        return DateFlow.from(MILLIS).plusSeconds(30).as().instant();
+    }
+
+    @Benchmark
+    public Instant plusMinutes() {
+        return DateFlow.from(MILLIS).plusMinutes(30).as().instant();
+    }
+
+    @Benchmark
+    public Instant plusHours() {
+        return DateFlow.from(MILLIS).plusHours(3).as().instant();
+    }
+
+    @Benchmark
+    public Instant plusDays() {
+        return DateFlow.from(MILLIS).plusDays(1).as().instant();
+    }
+
+    @Benchmark
+    public Instant plusMonths() {
+        return DateFlow.from(MILLIS).plusMonths(1).as().instant();
+    }
+
+    @Benchmark
+    public Instant minusSeconds() {
+        return DateFlow.from(MILLIS).minusSeconds(30).as().instant();
+    }
+
+    @Benchmark
+    public Instant minusMinutes() {
+        return DateFlow.from(MILLIS).minusMinutes(30).as().instant();
+    }
+
+    @Benchmark
+    public Instant minusHours() {
+        return DateFlow.from(MILLIS).minusHours(3).as().instant();
+    }
+
+    @Benchmark
+    public Instant minusDays() {
+        return DateFlow.from(MILLIS).minusDays(1).as().instant();
+    }
+
+    @Benchmark
+    public Instant minusMonths() {
+        return DateFlow.from(MILLIS).minusMonths(1).as().instant();
+    }
+
+    @Benchmark
+    public Instant resetMidnightTime() {
+        return DateFlow.from(MILLIS).resetMidnightTime().as().instant();
+    }
+
+    @Benchmark
+    public Instant resetToLastMilliOfDay() {
+        return DateFlow.from(MILLIS).resetToLastMilliOfDay().as().instant();
+    }
+}
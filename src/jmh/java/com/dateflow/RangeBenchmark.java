@@ -0,0 +1,55 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RangeBenchmark {
+
+    private final Instant from = Instant.parse("2021-01-01T00:00:00Z");
+    private final Instant to = Instant.parse("2022-01-01T00:00:00Z");
+    private final ZoneId zoneId = ZoneId.of("Europe/Warsaw");
+
+    @Benchmark
+    public long quarterHoursFlowLoop() {
+        long sum = 0;
+        long end = to.toEpochMilli();
+        for (long millis = from.toEpochMilli(); millis < end; ) {
+            sum += millis;
+            millis = DateFlow.from(millis).plusMinutes(15).as().instant().toEpochMilli();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long quarterHoursRange() {
+        return DateFlow.range(from, to, Duration.ofMinutes(15)).sum();
+    }
+
+    @Benchmark
+    public long daysZonedLoop() {
+        long sum = 0;
+        var start = from.atZone(zoneId);
+        for (var next = start; next.toInstant().isBefore(to); next = next.plusDays(1)) {
+            sum += next.toInstant().toEpochMilli();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long daysRange() {
+        return DateFlow.range(from, to, Period.ofDays(1), zoneId).sum();
+    }
+}
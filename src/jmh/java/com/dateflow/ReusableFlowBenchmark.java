@@ -0,0 +1,63 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReusableFlowBenchmark {
+
+    private final byte[] target = new byte[64];
+    private final MutableDateFields fields = new MutableDateFields();
+    private ReusableFlow parsingFlow;
+    private long millis = 1_638_657_346_786L;
+
+    @Setup
+    public void setUp() {
+        parsingFlow = ReusableFlow.of(Constants.DATE_FORMAT, ZoneId.of("UTC"));
+    }
+
+    @Benchmark
+    public int newFlowDay() {
+        return DateFlow.from(millis++).plusDays(1).as().day();
+    }
+
+    @Benchmark
+    public int reusableFlowDay() {
+        return ReusableFlow.perThread().reset(millis++).plusDays(1).as().day();
+    }
+
+    @Benchmark
+    public MutableDateFields reusableFlowFields() {
+        return ReusableFlow.perThread().reset(millis++).plusDays(1).resetMidnightTime().as().fields(fields);
+    }
+
+    @Benchmark
+    public int newFlowFormat() throws ParseException {
+        return DateFlow.from("2021-12-04T22:35:46.786Z", Constants.DATE_FORMAT)
+                .plusHours(1)
+                .as()
+                .formatTo(Constants.DATE_FORMAT, target, 0);
+    }
+
+    @Benchmark
+    public int reusableFlowFormat() throws ParseException {
+        return parsingFlow.reset("2021-12-04T22:35:46.786Z")
+                .plusHours(1)
+                .as()
+                .formatTo(Constants.DATE_FORMAT, target, 0);
+    }
+}
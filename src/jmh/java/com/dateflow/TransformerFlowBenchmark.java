@@ -0,0 +1,119 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransformerFlowBenchmark {
+
+    @Param({"UTC", "+05:30", "America/New_York", "Europe/London", "Australia/Sydney"})
+    String zone;
+
+    @Param({"yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", "uuuu-MM-dd", "dd MMM uuuu HH:mm"})
+    String pattern;
+
+    private TransformerFlow transformerFlow;
+    private StringBuilder builder;
+    private byte[] bytes;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        transformerFlow = DateFlow
+                .from(Instant.parse("2021-12-04T22:35:46.786Z"))
+                .as()
+                .zoneId(ZoneId.of(zone));
+        builder = new StringBuilder(64);
+        bytes = new byte[64];
+        buffer = ByteBuffer.allocateDirect(64);
+    }
+
+    @Benchmark
+    public Date date() throws ParseException {
+        return transformerFlow.date();
+    }
+
+    @Benchmark
+    public String string() {
+        return transformerFlow.string(pattern);
+    }
+
+    @Benchmark
+    public StringBuilder formatToStringBuilder() {
+        builder.setLength(0);
+        return transformerFlow.formatTo(pattern, builder);
+    }
+
+    @Benchmark
+    public int formatToBytes() {
+        return transformerFlow.formatTo(pattern, bytes, 0);
+    }
+
+    @Benchmark
+    public ByteBuffer formatToByteBuffer() {
+        buffer.clear();
+        return transformerFlow.formatTo(pattern, buffer);
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return transformerFlow.localDate();
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime() {
+        return transformerFlow.localDateTime();
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return transformerFlow.instant();
+    }
+
+    @Benchmark
+    public int day() {
+        return transformerFlow.day();
+    }
+
+    @Benchmark
+    public int month() {
+        return transformerFlow.month();
+    }
+
+    @Benchmark
+    public int year() {
+        return transformerFlow.year();
+    }
+
+    @Benchmark
+    public int hour() {
+        return transformerFlow.hour();
+    }
+
+    @Benchmark
+    public int minutes() {
+        return transformerFlow.minutes();
+    }
+
+    @Benchmark
+    public int seconds() {
+        return transformerFlow.seconds();
+    }
+}
@@ -0,0 +1,52 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static com.dateflow.Constants.DATE_FORMAT;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransformerFlowDateBenchmark {
+
+    @Param({"UTC", "Asia/Tokyo", "America/New_York"})
+    String zone;
+
+    private TransformerFlow transformerFlow;
+
+    @Setup
+    public void setUp() {
+        transformerFlow = DateFlow
+                .from(Instant.parse("2021-12-04T22:35:46.786Z"))
+                .as()
+                .zoneId(ZoneId.of(zone));
+    }
+
+    @Benchmark
+    public Date offsetArithmetic() throws ParseException {
+        return transformerFlow.date();
+    }
+
+    @Benchmark
+    public Date formatThenParse() throws ParseException {
+        SimpleDateFormat formatter = new SimpleDateFormat(DATE_FORMAT);
+        SimpleDateFormat timeZoneFormatter = new SimpleDateFormat(DATE_FORMAT);
+        timeZoneFormatter.setTimeZone(TimeZone.getTimeZone(transformerFlow.outputZoneId));
+        return formatter.parse(timeZoneFormatter.format(Date.from(transformerFlow.instant())));
+    }
+}
@@ -0,0 +1,55 @@
+package com.dateflow;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ZoneTableBenchmark {
+
+    @Param({"UTC", "Europe/Warsaw", "America/New_York"})
+    String zone;
+
+    private ZoneId zoneId;
+    private ZoneTable zoneTable;
+    private Instant instant;
+
+    @Setup
+    public void setUp() {
+        zoneId = ZoneId.of(zone);
+        zoneTable = ZoneTable.of(zoneId);
+        instant = Instant.parse("2021-12-04T22:35:46.786Z");
+    }
+
+    @Benchmark
+    public int dayWithZoneRules() {
+        return instant.atZone(zoneId).getDayOfMonth();
+    }
+
+    @Benchmark
+    public int dayWithZoneTable() {
+        return zoneTable.day(instant.getEpochSecond());
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTimeWithZoneRules() {
+        return LocalDateTime.ofInstant(instant, zoneId);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTimeWithZoneTable() {
+        return zoneTable.localDateTime(instant.getEpochSecond(), instant.getNano());
+    }
+}
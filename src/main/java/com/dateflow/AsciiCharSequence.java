@@ -0,0 +1,53 @@
+package com.dateflow;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only view of a range of single byte characters, so bytes can be parsed without decoding them to a String.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int end;
+
+    AsciiCharSequence(ByteBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(start + index) & 0xFF);
+    }
+
+    /**
+     * @return 8 characters from {@code index}, the first one in the lowest byte
+     */
+    long word(int index) {
+        long word = buffer.getLong(start + index);
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? word : Long.reverseBytes(word);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return new AsciiCharSequence(buffer, start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+        var bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
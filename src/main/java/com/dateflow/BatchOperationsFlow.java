@@ -0,0 +1,173 @@
+package com.dateflow;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.dateflow.EpochMath.MILLIS_PER_DAY;
+
+/**
+ * Applies {@link OperationsFlow} operations to a whole column of epoch millis, in place, in the UTC working zone.
+ * After {@link #parallel(ForkJoinPool)} every operation and export is split into chunks run on the given pool.
+ */
+public class BatchOperationsFlow {
+
+    private static final long MILLIS_PER_SECOND = 1_000L;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+    private static final long LAST_SECOND_OF_DAY = MILLIS_PER_DAY - MILLIS_PER_SECOND;
+
+    final long[] millis;
+    ForkJoinPool pool;
+
+    BatchOperationsFlow(long[] millis) {
+        this.millis = millis;
+    }
+
+    public int size() {
+        return millis.length;
+    }
+
+    public BatchOperationsFlow parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    public BatchOperationsFlow parallel(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    public BatchOperationsFlow sequential() {
+        this.pool = null;
+        return this;
+    }
+
+    public BatchOperationsFlow resetMidnightTime() {
+        ChunkTask.run(pool, millis, this::resetMidnightTime);
+        return this;
+    }
+
+    public BatchOperationsFlow resetToLastMilliOfDay() {
+        ChunkTask.run(pool, millis, this::resetToLastMilliOfDay);
+        return this;
+    }
+
+    /**
+     * Truncates every value to the start of its local day in {@code zoneId}, like {@code ZonedDateTime.truncatedTo(DAYS)}.
+     */
+    public BatchOperationsFlow resetMidnightTime(ZoneId zoneId) {
+        DayIndex dayIndex = DayIndex.of(zoneId);
+        ChunkTask.run(pool, millis, (from, to) -> resetMidnightTime(zoneId, dayIndex, from, to));
+        return this;
+    }
+
+    /**
+     * Moves every value to 23:59:59 of its local day in {@code zoneId}, keeping the milliseconds.
+     */
+    public BatchOperationsFlow resetToLastMilliOfDay(ZoneId zoneId) {
+        DayIndex dayIndex = DayIndex.of(zoneId);
+        ChunkTask.run(pool, millis, (from, to) -> resetToLastMilliOfDay(zoneId, dayIndex, from, to));
+        return this;
+    }
+
+    public BatchOperationsFlow plusMonths(int months) {
+        ChunkTask.run(pool, millis, (from, to) -> plusMonths(months, from, to));
+        return this;
+    }
+
+    public BatchOperationsFlow plusDays(int days) {
+        return shift(days * MILLIS_PER_DAY);
+    }
+
+    public BatchOperationsFlow plusMinutes(int minutes) {
+        return shift(minutes * MILLIS_PER_MINUTE);
+    }
+
+    public BatchOperationsFlow plusHours(int hours) {
+        return shift(hours * MILLIS_PER_HOUR);
+    }
+
+    public BatchOperationsFlow plusSeconds(int seconds) {
+        return shift(seconds * MILLIS_PER_SECOND);
+    }
+
+    public BatchOperationsFlow minusSeconds(int seconds) {
+        return shift(-MILLIS_PER_SECOND * seconds);
+    }
+
+    public BatchOperationsFlow minusMinutes(int minutes) {
+        return shift(-MILLIS_PER_MINUTE * minutes);
+    }
+
+    public BatchOperationsFlow minusHours(int hours) {
+        return shift(-MILLIS_PER_HOUR * hours);
+    }
+
+    public BatchOperationsFlow minusDays(int days) {
+        return shift(-MILLIS_PER_DAY * days);
+    }
+
+    public BatchOperationsFlow minusMonths(int months) {
+        return plusMonths(-months);
+    }
+
+    public BatchTransformerFlow as() {
+        return new BatchTransformerFlow(millis, pool);
+    }
+
+    private BatchOperationsFlow shift(long delta) {
+        ChunkTask.run(pool, millis, (from, to) -> shift(delta, from, to));
+        return this;
+    }
+
+    private void resetMidnightTime(int from, int to) {
+        for (int i = from; i < to; i++) {
+            millis[i] -= Math.floorMod(millis[i], MILLIS_PER_DAY);
+        }
+    }
+
+    private void resetToLastMilliOfDay(int from, int to) {
+        for (int i = from; i < to; i++) {
+            long value = millis[i];
+            millis[i] = value - Math.floorMod(value, MILLIS_PER_DAY) + LAST_SECOND_OF_DAY + Math.floorMod(value, MILLIS_PER_SECOND);
+        }
+    }
+
+    private void resetMidnightTime(ZoneId zoneId, DayIndex dayIndex, int from, int to) {
+        for (int i = from; i < to; i++) {
+            long start = dayIndex.dayStart(Math.floorDiv(millis[i], MILLIS_PER_SECOND));
+            millis[i] = start != DayIndex.UNINDEXED
+                    ? start * MILLIS_PER_SECOND
+                    : Instant.ofEpochMilli(millis[i]).atZone(zoneId).truncatedTo(ChronoUnit.DAYS).toInstant().toEpochMilli();
+        }
+    }
+
+    private void resetToLastMilliOfDay(ZoneId zoneId, DayIndex dayIndex, int from, int to) {
+        for (int i = from; i < to; i++) {
+            long value = millis[i];
+            long end = dayIndex.dayEnd(Math.floorDiv(value, MILLIS_PER_SECOND));
+            millis[i] = end != DayIndex.UNINDEXED
+                    ? end * MILLIS_PER_SECOND + Math.floorMod(value, MILLIS_PER_SECOND)
+                    : Instant.ofEpochMilli(value).atZone(zoneId)
+                    .withHour(23)
+                    .withMinute(59)
+                    .withSecond(59)
+                    .toInstant()
+                    .toEpochMilli();
+        }
+    }
+
+    private void plusMonths(int months, int from, int to) {
+        for (int i = from; i < to; i++) {
+            long epochDay = Math.floorDiv(millis[i], MILLIS_PER_DAY);
+            millis[i] += (EpochMath.plusMonths(epochDay, months) - epochDay) * MILLIS_PER_DAY;
+        }
+    }
+
+    private void shift(long delta, int from, int to) {
+        for (int i = from; i < to; i++) {
+            millis[i] += delta;
+        }
+    }
+}
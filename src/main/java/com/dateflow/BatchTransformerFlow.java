@@ -0,0 +1,89 @@
+package com.dateflow;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongToIntFunction;
+
+import static com.dateflow.Constants.TIME_ZONE;
+import static com.dateflow.EpochMath.MILLIS_PER_DAY;
+
+/**
+ * Exports a column of epoch millis as primitive field columns or strings in the output zone.
+ */
+public class BatchTransformerFlow {
+
+    final long[] millis;
+    final ForkJoinPool pool;
+    ZoneId outputZoneId;
+
+    private ZoneRules rules;
+
+    BatchTransformerFlow(long[] millis, ForkJoinPool pool) {
+        this.millis = millis;
+        this.pool = pool;
+        zoneId(ZoneId.of(TIME_ZONE));
+    }
+
+    public BatchTransformerFlow zoneId(ZoneId newZoneId) {
+        outputZoneId = newZoneId;
+        rules = newZoneId.getRules();
+        return this;
+    }
+
+    public long[] millis() {
+        return millis;
+    }
+
+    public int[] year() {
+        return localFields(local -> (int) EpochMath.year(EpochMath.civil(Math.floorDiv(local, MILLIS_PER_DAY))));
+    }
+
+    public int[] month() {
+        return localFields(local -> EpochMath.month(EpochMath.civil(Math.floorDiv(local, MILLIS_PER_DAY))));
+    }
+
+    public int[] day() {
+        return localFields(local -> EpochMath.day(EpochMath.civil(Math.floorDiv(local, MILLIS_PER_DAY))));
+    }
+
+    public int[] hour() {
+        return localFields(local -> (int) (Math.floorMod(local, MILLIS_PER_DAY) / 3_600_000L));
+    }
+
+    public int[] minutes() {
+        return localFields(local -> (int) (Math.floorMod(local, 3_600_000L) / 60_000L));
+    }
+
+    public int[] seconds() {
+        return localFields(local -> (int) (Math.floorMod(local, 60_000L) / 1_000L));
+    }
+
+    public String[] string(String format) {
+        DateTimeFormatter formatter = FormatterCache
+                .shared()
+                .formatter(format, outputZoneId);
+        var result = new String[millis.length];
+        ChunkTask.run(pool, millis, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = formatter.format(Instant.ofEpochMilli(millis[i]));
+            }
+        });
+        return result;
+    }
+
+    // Maps the local millis of every instant in the output zone, each worker reusing the offset cursor of its thread.
+    private int[] localFields(LongToIntFunction field) {
+        var result = new int[millis.length];
+        ZoneRules zoneRules = rules;
+        ChunkTask.run(pool, millis, (from, to) -> {
+            var cursor = OffsetCursor.perThread(zoneRules);
+            for (int i = from; i < to; i++) {
+                result[i] = field.applyAsInt(cursor.local(millis[i]));
+            }
+        });
+        return result;
+    }
+}
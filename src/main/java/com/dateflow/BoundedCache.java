@@ -0,0 +1,109 @@
+package com.dateflow;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size bounded concurrent cache using CLOCK (second chance) eviction.
+ * Hits only flip a per entry flag, so lookups of hot keys never contend.
+ */
+final class BoundedCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+    private final int maximumSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private Iterator<Map.Entry<K, Entry<V>>> hand;
+
+    BoundedCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 64));
+    }
+
+    V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.value;
+        }
+        misses.increment();
+        entry = entries.computeIfAbsent(key, it -> new Entry<>(loader.apply(it)));
+        evictIfNeeded(key);
+        return entry.value;
+    }
+
+    void put(K key, Function<? super K, ? extends V> loader) {
+        entries.computeIfAbsent(key, it -> new Entry<>(loader.apply(it)));
+        evictIfNeeded(key);
+    }
+
+    private void evictIfNeeded(K admitted) {
+        if (entries.size() <= maximumSize) {
+            return;
+        }
+        synchronized (this) {
+            while (entries.size() > maximumSize) {
+                if (hand == null || !hand.hasNext()) {
+                    hand = entries.entrySet().iterator();
+                }
+                var candidate = hand.next();
+                if (candidate.getKey().equals(admitted)) {
+                    continue;
+                }
+                if (candidate.getValue().referenced) {
+                    candidate.getValue().referenced = false;
+                } else if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    int maximumSize() {
+        return maximumSize;
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        hand = null;
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private static final class Entry<V> {
+
+        final V value;
+        volatile boolean referenced;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+}
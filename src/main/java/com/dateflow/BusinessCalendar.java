@@ -0,0 +1,149 @@
+package com.dateflow;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Immutable working day calendar, safe to share between threads.
+ * <p>
+ * Working days of the year range are compiled into a bitset, one bit per day, with the number of working days before
+ * every 64 day word. Counting working days between two dates is two lookups and a bit count, moving by N working days
+ * a binary search over the words and a bit select, so neither depends on N. Dates outside the range are rejected with
+ * a {@link DateTimeException}.
+ */
+public final class BusinessCalendar {
+
+    private static final Set<DayOfWeek> SATURDAY_SUNDAY = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private final int firstYear;
+    private final int lastYear;
+    private final long firstDay;
+    private final int days;
+    private final long[] words;
+    private final int[] ranks;
+
+    private BusinessCalendar(Set<DayOfWeek> weekend, Collection<LocalDate> holidays, int firstYear, int lastYear) {
+        if (firstYear > lastYear) {
+            throw new IllegalArgumentException("firstYear " + firstYear + " is after lastYear " + lastYear);
+        }
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.firstDay = EpochMath.epochDay(firstYear, 1, 1);
+        this.days = (int) (EpochMath.epochDay(lastYear + 1L, 1, 1) - firstDay);
+        this.words = new long[(days >>> 6) + 1];
+        boolean[] weekendDays = new boolean[7];
+        for (DayOfWeek dayOfWeek : weekend) {
+            weekendDays[dayOfWeek.getValue() - 1] = true;
+        }
+        for (int i = 0; i < days; i++) {
+            if (!weekendDays[Math.floorMod(firstDay + i + 3, 7)]) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            int index = index(holiday.toEpochDay());
+            words[index >>> 6] &= ~(1L << index);
+        }
+        this.ranks = new int[words.length + 1];
+        for (int i = 0; i < words.length; i++) {
+            ranks[i + 1] = ranks[i] + Long.bitCount(words[i]);
+        }
+    }
+
+    /**
+     * Calendar with Saturday and Sunday off, over the {@link ZoneTable} default year range.
+     */
+    public static BusinessCalendar of(Collection<LocalDate> holidays) {
+        return of(SATURDAY_SUNDAY, holidays);
+    }
+
+    public static BusinessCalendar of(Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        return of(weekend, holidays, ZoneTable.DEFAULT_FIRST_YEAR, ZoneTable.DEFAULT_LAST_YEAR);
+    }
+
+    public static BusinessCalendar of(Set<DayOfWeek> weekend, Collection<LocalDate> holidays, int firstYear, int lastYear) {
+        return new BusinessCalendar(weekend, holidays, firstYear, lastYear);
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        return isBusinessDay(date.toEpochDay());
+    }
+
+    public LocalDate plusBusinessDays(LocalDate date, long businessDays) {
+        return LocalDate.ofEpochDay(plusBusinessDays(date.toEpochDay(), businessDays));
+    }
+
+    public LocalDate minusBusinessDays(LocalDate date, long businessDays) {
+        return plusBusinessDays(date, Math.negateExact(businessDays));
+    }
+
+    /**
+     * @return working days from {@code startInclusive} to {@code endExclusive}, negative when the end is before the start
+     */
+    public long businessDaysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+        return rank(rankIndex(endExclusive.toEpochDay())) - rank(rankIndex(startInclusive.toEpochDay()));
+    }
+
+    boolean isBusinessDay(long epochDay) {
+        int index = index(epochDay);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return epoch day of the {@code businessDays}th working day after, or before when negative, {@code epochDay},
+     * which is returned unchanged for 0 and does not need to be a working day itself
+     */
+    long plusBusinessDays(long epochDay, long businessDays) {
+        int index = index(epochDay);
+        if (businessDays == 0) {
+            return epochDay;
+        }
+        long target = businessDays > 0 ? rank(index + 1) + businessDays - 1 : rank(index) + businessDays;
+        if (target < 0 || target >= ranks[words.length]) {
+            throw new DateTimeException("Moving " + businessDays + " business days from " + LocalDate.ofEpochDay(epochDay)
+                    + " leaves the calendar years " + firstYear + " to " + lastYear);
+        }
+        return firstDay + select((int) target);
+    }
+
+    // Working days before the day at index.
+    private int rank(int index) {
+        return ranks[index >>> 6] + Long.bitCount(words[index >>> 6] & ((1L << index) - 1));
+    }
+
+    // Index of the working day with target working days before it.
+    private int select(int target) {
+        int low = 0;
+        int high = words.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (ranks[middle] <= target) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        long word = words[low];
+        for (int skip = target - ranks[low]; skip > 0; skip--) {
+            word &= word - 1;
+        }
+        return (low << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private int index(long epochDay) {
+        if (epochDay < firstDay || epochDay >= firstDay + days) {
+            throw new DateTimeException(LocalDate.ofEpochDay(epochDay) + " is outside the calendar years "
+                    + firstYear + " to " + lastYear);
+        }
+        return (int) (epochDay - firstDay);
+    }
+
+    // Like index, the day after the last one is allowed as an exclusive bound.
+    private int rankIndex(long epochDay) {
+        return epochDay == firstDay + days ? days : index(epochDay);
+    }
+}
@@ -0,0 +1,54 @@
+package com.dateflow;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork join task that splits a {@link MillisSpliterator} down to chunks and runs an action over each leaf range.
+ */
+final class ChunkTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    @FunctionalInterface
+    interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    private final MillisSpliterator spliterator;
+    private final RangeAction action;
+    private ChunkTask next;
+
+    private ChunkTask(MillisSpliterator spliterator, RangeAction action) {
+        this.spliterator = spliterator;
+        this.action = action;
+    }
+
+    /**
+     * Runs {@code action} over {@code [0, size)}, on the caller thread when {@code pool} is {@code null}.
+     */
+    static void run(ForkJoinPool pool, long[] millis, RangeAction action) {
+        if (pool == null || millis.length < 2 * MillisSpliterator.DEFAULT_CHUNK_SIZE) {
+            action.apply(0, millis.length);
+            return;
+        }
+        pool.invoke(new ChunkTask(new MillisSpliterator(millis, 0, millis.length, MillisSpliterator.DEFAULT_CHUNK_SIZE), action));
+    }
+
+    @Override
+    protected void compute() {
+        ChunkTask forked = null;
+        MillisSpliterator prefix;
+        while ((prefix = spliterator.trySplit()) != null) {
+            var task = new ChunkTask(prefix, action);
+            task.fork();
+            task.next = forked;
+            forked = task;
+        }
+        action.apply(spliterator.origin(), spliterator.fence());
+        while (forked != null) {
+            forked.join();
+            forked = forked.next;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.dateflow;
+
+import java.util.Locale;
+
+/**
+ * Counters of a finished {@link FileConverter} run.
+ */
+public final class ConversionReport {
+
+    private final long rows;
+    private final long bytesRead;
+    private final long bytesWritten;
+    private final long elapsedNanos;
+
+    ConversionReport(long rows, long bytesRead, long bytesWritten, long elapsedNanos) {
+        this.rows = rows;
+        this.bytesRead = bytesRead;
+        this.bytesWritten = bytesWritten;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double rowsPerSecond() {
+        return perSecond(rows);
+    }
+
+    public double bytesPerSecond() {
+        return perSecond(bytesRead);
+    }
+
+    private double perSecond(long count) {
+        return elapsedNanos == 0 ? 0 : count * 1_000_000_000d / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d rows, %d bytes read, %d bytes written in %.3f s (%.0f rows/s, %.0f bytes/s)",
+                rows, bytesRead, bytesWritten, elapsedNanos / 1_000_000_000d, rowsPerSecond(), bytesPerSecond());
+    }
+}
@@ -0,0 +1,79 @@
+package com.dateflow;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Immutable wall clock fields of an instant in the output zone, decomposed once.
+ */
+public final class DateFields {
+
+    private final int year;
+    private final int month;
+    private final int day;
+    private final int hour;
+    private final int minutes;
+    private final int seconds;
+    private final int nano;
+
+    DateFields(int year, int month, int day, int hour, int minutes, int seconds, int nano) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.hour = hour;
+        this.minutes = minutes;
+        this.seconds = seconds;
+        this.nano = nano;
+    }
+
+    public int year() {
+        return year;
+    }
+
+    public int month() {
+        return month;
+    }
+
+    public int day() {
+        return day;
+    }
+
+    public int hour() {
+        return hour;
+    }
+
+    public int minutes() {
+        return minutes;
+    }
+
+    public int seconds() {
+        return seconds;
+    }
+
+    public int nano() {
+        return nano;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DateFields)) {
+            return false;
+        }
+        DateFields other = (DateFields) o;
+        return year == other.year && month == other.month && day == other.day && hour == other.hour
+                && minutes == other.minutes && seconds == other.seconds && nano == other.nano;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(year, month, day, hour, minutes, seconds, nano);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%04d-%02d-%02dT%02d:%02d:%02d.%09d", year, month, day, hour, minutes, seconds, nano);
+    }
+}
@@ -1,36 +1,61 @@
 package com.dateflow;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.text.ParsePosition;
 import java.time.*;
+import java.time.temporal.TemporalAmount;
 import java.util.Date;
-import java.util.TimeZone;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static com.dateflow.EpochMath.NANOS_PER_MILLI;
+import static com.dateflow.EpochMath.SECONDS_PER_DAY;
 
 public class DateFlow {
 
+    private static final LongAdder NOW_CALLS = DateFlowMetrics.counter("DateFlow.now");
+    private static final LongAdder FROM_CALLS = DateFlowMetrics.counter("DateFlow.from");
+
+    private static volatile Clock clock = Clock.systemUTC();
+
     private DateFlow() {
     }
 
+    /**
+     * Clock read by {@link #now()}, the system UTC clock unless replaced with {@link #useClock(Clock)}.
+     */
+    public static Clock clock() {
+        return clock;
+    }
+
+    public static void useClock(Clock clock) {
+        DateFlow.clock = Objects.requireNonNull(clock, "clock");
+    }
+
     public static OperationsFlow now() {
-        return new OperationsFlow();
+        return now(clock);
+    }
+
+    public static OperationsFlow now(Clock clock) {
+        DateFlowMetrics.increment(NOW_CALLS);
+        return new OperationsFlow(clock.instant());
     }
 
     private static OperationsFlow from(LocalDateTime localDateTime, ZoneId zoneId) {
-        var operationsFlow = new OperationsFlow();
-        operationsFlow.instant = localDateTime
+        DateFlowMetrics.increment(FROM_CALLS);
+        return new OperationsFlow(localDateTime
                 .atZone(zoneId)
-                .toInstant()
-                .atZone(operationsFlow.zoneId)
-                .toInstant();
-        return operationsFlow;
+                .toInstant());
     }
 
     private static OperationsFlow from(String date, String dateFormat, ZoneId zoneId) throws ParseException {
-        SimpleDateFormat format = new SimpleDateFormat(dateFormat);
-        format.setTimeZone(TimeZone.getTimeZone(zoneId.getId()));
-        format.setLenient(false);
-        Date dateParsed = format.parse(date);
-        return from(dateParsed);
+        return from(DateParser
+                .of(dateFormat, zoneId)
+                .parse(date));
     }
 
     public static OperationsFlow from(LocalDateTime localDateTime) {
@@ -41,37 +66,98 @@ public class DateFlow {
         return from(date, dateFormat, ZoneId.systemDefault());
     }
 
+    public static OperationsFlow from(CharSequence date, int start, int end, String dateFormat) throws ParseException {
+        return from(DateParser
+                .of(dateFormat, ZoneId.systemDefault())
+                .parse(date, start, end));
+    }
+
+    public static OperationsFlow from(byte[] date, int start, int end, String dateFormat) throws ParseException {
+        return from(DateParser
+                .of(dateFormat, ZoneId.systemDefault())
+                .parse(date, start, end));
+    }
+
+    public static OperationsFlow from(ByteBuffer date, int start, int end, String dateFormat) throws ParseException {
+        return from(DateParser
+                .of(dateFormat, ZoneId.systemDefault())
+                .parse(date, start, end));
+    }
+
+    /**
+     * Parses like {@link #from(String, String)}, an unparseable date gives an empty result without any exception.
+     */
+    public static Optional<OperationsFlow> tryFrom(String date, String dateFormat) {
+        return tryFrom(date, 0, date.length(), dateFormat);
+    }
+
+    public static Optional<OperationsFlow> tryFrom(CharSequence date, int start, int end, String dateFormat) {
+        var position = new ParsePosition(start);
+        long millis = DateParser
+                .of(dateFormat, ZoneId.systemDefault())
+                .tryParse(date, start, end, position);
+        return position.getErrorIndex() < 0 ? Optional.of(from(millis)) : Optional.empty();
+    }
+
+    public static OperationsFlow from(CharSequence date, MultiPatternParser parser) throws ParseException {
+        return from(parser.parse(date));
+    }
+
+    public static Optional<OperationsFlow> tryFrom(CharSequence date, MultiPatternParser parser) {
+        var position = new ParsePosition(0);
+        long millis = parser.tryParse(date, position);
+        return position.getErrorIndex() < 0 ? Optional.of(from(millis)) : Optional.empty();
+    }
+
     public static OperationsFlow from(LocalDate localDate) {
-        var operationsFlow = new OperationsFlow();
-        operationsFlow.instant = localDate
-                .atStartOfDay()
-                .atZone(operationsFlow.zoneId)
-                .toInstant();
-        return operationsFlow;
+        DateFlowMetrics.increment(FROM_CALLS);
+        return new OperationsFlow(localDate.toEpochDay() * SECONDS_PER_DAY, 0);
     }
 
     public static OperationsFlow from(long millis) {
-        var operationsFlow = new OperationsFlow();
-        operationsFlow.instant = Instant
-                .ofEpochMilli(millis)
-                .atZone(operationsFlow.zoneId)
-                .toInstant();
-        return operationsFlow;
+        DateFlowMetrics.increment(FROM_CALLS);
+        return new OperationsFlow(Math.floorDiv(millis, 1000), Math.floorMod(millis, 1000) * NANOS_PER_MILLI);
     }
 
     public static OperationsFlow from(Instant instant) {
-        var operationsFlow = new OperationsFlow();
-        operationsFlow.instant = instant
-                .atZone(operationsFlow.zoneId)
-                .toInstant();
-        return operationsFlow;
+        DateFlowMetrics.increment(FROM_CALLS);
+        return new OperationsFlow(instant);
     }
 
     public static OperationsFlow from(Date date) {
-        var operationsFlow = new OperationsFlow();
-        operationsFlow.instant = ZonedDateTime
-                .ofInstant(date.toInstant(), operationsFlow.zoneId)
-                .toInstant();
-        return operationsFlow;
+        DateFlowMetrics.increment(FROM_CALLS);
+        return new OperationsFlow(date.toInstant());
+    }
+
+    public static BatchOperationsFlow fromAll(long[] millis) {
+        return new BatchOperationsFlow(millis);
+    }
+
+    /**
+     * Lazy epoch millis from {@code from}, inclusive, to {@code to}, exclusive, {@code step} apart. Elements are
+     * computed from their index, the stream is sized, splits evenly for parallel use and holds no buffer.
+     *
+     * @param step a positive {@link Duration}, added in millis, or a positive {@link Period}, added to the local date
+     *             in {@code zoneId} like {@link ZonedDateTime#plus(java.time.temporal.TemporalAmount)} so a daily step
+     *             keeps the wall clock time across daylight saving changes
+     */
+    public static LongStream range(Instant from, Instant to, TemporalAmount step, ZoneId zoneId) {
+        return StreamSupport.longStream(RangeSpliterator.of(from, to, step, zoneId), false);
+    }
+
+    public static LongStream range(Instant from, Instant to, Duration step) {
+        return range(from, to, step, ZoneOffset.UTC);
+    }
+
+    public static OperationsTemplate template() {
+        return new OperationsTemplate(null);
+    }
+
+    public static OperationsTemplate template(String dateFormat) {
+        return template(dateFormat, ZoneId.systemDefault());
+    }
+
+    public static OperationsTemplate template(String dateFormat, ZoneId zoneId) {
+        return new OperationsTemplate(DateParser.of(dateFormat, zoneId));
     }
 }
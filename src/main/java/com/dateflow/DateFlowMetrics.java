@@ -0,0 +1,83 @@
+package com.dateflow;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of the parse, operation and export hot paths.
+ * <p>
+ * Disabled by default, a disabled call site costs a single volatile read. Once {@link #enable() enabled}, entry points
+ * record call counts and latency histograms, and failed parses are counted per pattern, all on {@link LongAdder}s
+ * so concurrent callers never contend. {@link #snapshot()} reads everything, together with the formatter cache counters.
+ */
+public final class DateFlowMetrics {
+
+    static final long DISABLED = Long.MIN_VALUE;
+
+    private static final ConcurrentHashMap<String, LatencyTimer> TIMERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, LongAdder> PARSE_FAILURES = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    private DateFlowMetrics() {
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void reset() {
+        TIMERS.values().forEach(LatencyTimer::reset);
+        COUNTERS.values().forEach(LongAdder::reset);
+        PARSE_FAILURES.clear();
+    }
+
+    public static MetricsSnapshot snapshot() {
+        Map<String, MetricsSnapshot.TimerSnapshot> timers = new TreeMap<>();
+        TIMERS.forEach((name, timer) -> timers.put(name, timer.snapshot()));
+        Map<String, Long> counters = new TreeMap<>();
+        COUNTERS.forEach((name, counter) -> counters.put(name, counter.sum()));
+        Map<String, Long> parseFailures = new TreeMap<>();
+        PARSE_FAILURES.forEach((pattern, counter) -> parseFailures.put(pattern, counter.sum()));
+        var formatterCache = FormatterCache.shared();
+        return new MetricsSnapshot(timers, counters, parseFailures, formatterCache.hitCount(), formatterCache.missCount());
+    }
+
+    static LatencyTimer timer(String name) {
+        return TIMERS.computeIfAbsent(name, LatencyTimer::new);
+    }
+
+    static LongAdder counter(String name) {
+        return COUNTERS.computeIfAbsent(name, it -> new LongAdder());
+    }
+
+    /**
+     * @return start time to hand to {@link LatencyTimer#stop(long)}, or {@link #DISABLED}
+     */
+    static long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    static void increment(LongAdder counter) {
+        if (enabled) {
+            counter.increment();
+        }
+    }
+
+    static void parseFailure(String pattern) {
+        if (enabled) {
+            PARSE_FAILURES.computeIfAbsent(pattern, it -> new LongAdder()).increment();
+        }
+    }
+}
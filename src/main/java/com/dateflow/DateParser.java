@@ -0,0 +1,426 @@
+package com.dateflow;
+
+import java.nio.ByteBuffer;
+import java.text.DecimalFormat;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import static com.dateflow.EpochMath.SECONDS_PER_DAY;
+
+/**
+ * Immutable, thread-safe parser compiled once per pattern, zone and locale.
+ * <p>
+ * Numeric patterns ({@code y M d H m s S} and literals) are parsed straight into epoch millis.
+ * Anything the compiled form can not decide with certainty, such as text fields, out of range values
+ * or local times inside a zone transition, is delegated to a strict {@link SimpleDateFormat},
+ * so results and {@link ParseException}s are exactly the ones {@code SimpleDateFormat} produces.
+ */
+public final class DateParser {
+
+    private static final BoundedCache<PatternKey, DateParser> CACHE = new BoundedCache<>(FormatterCache.DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * Returned by {@code tryParse} when the text is rejected.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    static final long UNPARSED = Long.MIN_VALUE;
+
+    private static final LatencyTimer PARSE = DateFlowMetrics.timer("DateParser.parse");
+
+    private static final int LITERAL = 0;
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int DAY = 3;
+    private static final int HOUR = 4;
+    private static final int MINUTE = 5;
+    private static final int SECOND = 6;
+    private static final int MILLI = 7;
+
+    private static final int MAX_DIGITS = 9;
+    // java.util.TimeZone drops transitions before 1900, ZoneRules keeps local mean time
+    private static final int MIN_YEAR = 1901;
+    private static final int MAX_YEAR = 1_000_000;
+    // java.util.TimeZone keeps explicit transitions up to 2037 only and repeats its last rule after, ZoneRules does not
+    private static final int MAX_RULES_YEAR = 2037;
+
+    private final String pattern;
+    private final ZoneId zoneId;
+    private final SimpleDateFormat prototype;
+    private final ThreadLocal<SimpleDateFormat> formats;
+    private final ZoneRules rules;
+    private final int fixedOffset;
+    private final int[] kinds;
+    private final int[] widths;
+    private final String[] literals;
+    private final String exponent;
+    private final boolean compiled;
+    private final int isoLayout;
+
+    private DateParser(String pattern, ZoneId zoneId, Locale locale) {
+        this.pattern = pattern;
+        this.zoneId = zoneId;
+        TimeZone timeZone = TimeZone.getTimeZone(zoneId.getId());
+        this.prototype = new SimpleDateFormat(pattern, locale);
+        this.prototype.setTimeZone(timeZone);
+        this.prototype.setLenient(false);
+        this.formats = ThreadLocal.withInitial(() -> (SimpleDateFormat) prototype.clone());
+        this.rules = timeZone.toZoneId().getRules();
+        this.fixedOffset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH).getTotalSeconds() : Integer.MIN_VALUE;
+
+        List<Integer> kindList = new ArrayList<>();
+        List<String> literalList = new ArrayList<>();
+        boolean supported = tokenize(pattern, kindList, literalList)
+                && "gregory".equals(prototype.getCalendar().getCalendarType())
+                && prototype.getNumberFormat() instanceof DecimalFormat;
+        this.kinds = new int[kindList.size()];
+        this.widths = new int[kindList.size()];
+        this.literals = literalList.toArray(new String[0]);
+        for (int i = 0; i < kinds.length; i++) {
+            kinds[i] = kindList.get(i);
+            boolean nextIsField = i + 1 < kinds.length && kindList.get(i + 1) != LITERAL;
+            widths[i] = kinds[i] != LITERAL && nextIsField ? literals[i].length() : 0;
+        }
+        if (supported) {
+            var numberFormat = (DecimalFormat) prototype.getNumberFormat();
+            supported = numberFormat.getPositivePrefix().isEmpty() && numberFormat.getPositiveSuffix().isEmpty();
+            this.exponent = numberFormat.getDecimalFormatSymbols().getExponentSeparator();
+        } else {
+            this.exponent = "";
+        }
+        this.compiled = supported;
+        this.isoLayout = supported ? IsoTimestampParser.layout(pattern) : IsoTimestampParser.NONE;
+    }
+
+    public static DateParser of(String pattern) {
+        return of(pattern, ZoneId.systemDefault());
+    }
+
+    public static DateParser of(String pattern, ZoneId zoneId) {
+        return of(pattern, zoneId, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public static DateParser of(String pattern, ZoneId zoneId, Locale locale) {
+        return CACHE.get(new PatternKey(pattern, zoneId, locale), key -> new DateParser(key.pattern, key.zoneId, key.locale));
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    public ZoneId zoneId() {
+        return zoneId;
+    }
+
+    public long parse(CharSequence text) throws ParseException {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses {@code text} between {@code start} inclusive and {@code end} exclusive, without copying the range.
+     */
+    public long parse(CharSequence text, int start, int end) throws ParseException {
+        Objects.checkFromToIndex(start, end, text.length());
+        var position = new ParsePosition(0);
+        long millis = parse(text, start, end, position);
+        if (position.getIndex() == 0) {
+            throw new ParseException("Unparseable date: \"" + text.subSequence(start, end) + "\"", position.getErrorIndex());
+        }
+        return millis;
+    }
+
+    /**
+     * Parses ASCII bytes between {@code start} inclusive and {@code end} exclusive.
+     */
+    public long parse(byte[] ascii, int start, int end) throws ParseException {
+        Objects.checkFromToIndex(start, end, ascii.length);
+        return parse(new AsciiCharSequence(ByteBuffer.wrap(ascii), start, end));
+    }
+
+    /**
+     * Parses ASCII bytes between absolute indexes {@code start} inclusive and {@code end} exclusive,
+     * the buffer position and limit are left unchanged.
+     */
+    public long parse(ByteBuffer ascii, int start, int end) throws ParseException {
+        Objects.checkFromToIndex(start, end, ascii.limit());
+        return parse(new AsciiCharSequence(ascii, start, end));
+    }
+
+    public long tryParse(CharSequence text, ParsePosition position) {
+        return tryParse(text, 0, text.length(), position);
+    }
+
+    /**
+     * Parses like {@link #parse(CharSequence, int, int)} but reports a failure through {@code position} instead of
+     * a {@link ParseException}, so rejecting malformed input allocates no exception.
+     * <p>
+     * On success the index of {@code position} is set past the parsed text and its error index to -1.
+     * On failure the index is left at {@code start}, the error index is set where {@code parse} would report it,
+     * offset by {@code start}, and {@link #INVALID} is returned.
+     */
+    public long tryParse(CharSequence text, int start, int end, ParsePosition position) {
+        Objects.checkFromToIndex(start, end, text.length());
+        return tryParse(text, start, end, start, position);
+    }
+
+    /**
+     * Parses ASCII bytes like {@link #tryParse(CharSequence, int, int, ParsePosition)}, indexes are in the array.
+     */
+    public long tryParse(byte[] ascii, int start, int end, ParsePosition position) {
+        Objects.checkFromToIndex(start, end, ascii.length);
+        return tryParse(new AsciiCharSequence(ByteBuffer.wrap(ascii), start, end), 0, end - start, start, position);
+    }
+
+    /**
+     * Parses ASCII bytes like {@link #tryParse(CharSequence, int, int, ParsePosition)}, indexes are absolute
+     * in the buffer and its position and limit are left unchanged.
+     */
+    public long tryParse(ByteBuffer ascii, int start, int end, ParsePosition position) {
+        Objects.checkFromToIndex(start, end, ascii.limit());
+        return tryParse(new AsciiCharSequence(ascii, start, end), 0, end - start, start, position);
+    }
+
+    private long tryParse(CharSequence text, int start, int end, int origin, ParsePosition position) {
+        long millis = parse(text, start, end, position);
+        if (position.getIndex() == 0) {
+            position.setIndex(origin);
+            position.setErrorIndex(origin + position.getErrorIndex());
+            return INVALID;
+        }
+        position.setIndex(origin + position.getIndex());
+        return millis;
+    }
+
+    // Index and error index of position are relative to start, an index of 0 means the text was rejected.
+    private long parse(CharSequence text, int start, int end, ParsePosition position) {
+        long begin = DateFlowMetrics.start();
+        var event = new ParseEvent();
+        event.begin();
+        String outcome = ParseEvent.COMPILED;
+        try {
+            position.setIndex(0);
+            position.setErrorIndex(-1);
+            long millis = parseCompiled(text, start, end);
+            if (millis != UNPARSED) {
+                position.setIndex(end - start);
+                return millis;
+            }
+            outcome = ParseEvent.FALLBACK;
+            Date date = formats.get().parse(text.subSequence(start, end).toString(), position);
+            if (date == null || position.getIndex() == 0) {
+                position.setIndex(0);
+                outcome = ParseEvent.FAILED;
+                DateFlowMetrics.parseFailure(pattern);
+                return INVALID;
+            }
+            return date.getTime();
+        } finally {
+            PARSE.stop(begin);
+            event.report(pattern, zoneId, end - start, outcome);
+        }
+    }
+
+    long parseCompiled(CharSequence text, int from, int to) {
+        if (!compiled) {
+            return UNPARSED;
+        }
+        if (isoLayout != IsoTimestampParser.NONE) {
+            long fields = IsoTimestampParser.parse(text, from, to, isoLayout);
+            if (fields != IsoTimestampParser.INVALID) {
+                return epochMillis(IsoTimestampParser.year(fields), IsoTimestampParser.month(fields),
+                        IsoTimestampParser.day(fields), IsoTimestampParser.hour(fields), IsoTimestampParser.minute(fields),
+                        IsoTimestampParser.second(fields), IsoTimestampParser.milli(fields));
+            }
+        }
+        int position = from;
+        long year = 1970;
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int milli = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == LITERAL) {
+                String literal = literals[i];
+                if (position + literal.length() > to) {
+                    return UNPARSED;
+                }
+                for (int c = 0; c < literal.length(); c++) {
+                    if (text.charAt(position + c) != literal.charAt(c)) {
+                        return UNPARSED;
+                    }
+                }
+                position += literal.length();
+                continue;
+            }
+            int fieldStart = position;
+            while (position < to && (text.charAt(position) == ' ' || text.charAt(position) == '\t')) {
+                position++;
+            }
+            int limit = to;
+            if (widths[i] > 0) {
+                limit = fieldStart + widths[i];
+                if (limit > to) {
+                    return UNPARSED;
+                }
+            }
+            int digitsStart = position;
+            int value = 0;
+            while (position < limit) {
+                char c = text.charAt(position);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (position - digitsStart == MAX_DIGITS) {
+                    return UNPARSED;
+                }
+                value = value * 10 + (c - '0');
+                position++;
+            }
+            if (position == digitsStart || (position < limit && continuesNumber(text, position, limit))) {
+                return UNPARSED;
+            }
+            switch (kinds[i]) {
+                case YEAR:
+                    year = value;
+                    break;
+                case MONTH:
+                    month = value;
+                    break;
+                case DAY:
+                    day = value;
+                    break;
+                case HOUR:
+                    hour = value;
+                    break;
+                case MINUTE:
+                    minute = value;
+                    break;
+                case SECOND:
+                    second = value;
+                    break;
+                default:
+                    milli = value;
+            }
+        }
+        if (position != to) {
+            return UNPARSED;
+        }
+        return epochMillis(year, month, day, hour, minute, second, milli);
+    }
+
+    private long epochMillis(long year, int month, int day, int hour, int minute, int second, int milli) {
+        if (year < MIN_YEAR || year > MAX_YEAR
+                || month < 1 || month > 12
+                || day < 1 || day > EpochMath.lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59 || milli > 999) {
+            return UNPARSED;
+        }
+        long local = EpochMath.epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+        int offset = fixedOffset;
+        if (offset == Integer.MIN_VALUE) {
+            if (year > MAX_RULES_YEAR) {
+                return UNPARSED;
+            }
+            var localDateTime = LocalDateTime.of((int) year, month, day, hour, minute, second);
+            if (rules.getTransition(localDateTime) != null) {
+                return UNPARSED;
+            }
+            offset = rules.getOffset(localDateTime).getTotalSeconds();
+        }
+        return (local - offset) * 1000 + milli;
+    }
+
+    private boolean continuesNumber(CharSequence text, int position, int limit) {
+        if (Character.digit(text.charAt(position), 10) >= 0) {
+            return true;
+        }
+        if (exponent.isEmpty() || position + exponent.length() > limit) {
+            return false;
+        }
+        for (int i = 0; i < exponent.length(); i++) {
+            if (text.charAt(position + i) != exponent.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Splits the pattern the way SimpleDateFormat compiles it, keeping each field letter run in literals.
+    private static boolean tokenize(String pattern, List<Integer> kinds, List<String> literals) {
+        boolean supported = true;
+        var literal = new StringBuilder();
+        boolean inQuote = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append(c);
+                    i += 2;
+                } else {
+                    inQuote = !inQuote;
+                    i++;
+                }
+                continue;
+            }
+            if (inQuote || !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (literal.length() > 0) {
+                kinds.add(LITERAL);
+                literals.add(literal.toString());
+                literal.setLength(0);
+            }
+            int end = i;
+            while (end < pattern.length() && pattern.charAt(end) == c) {
+                end++;
+            }
+            int kind = kind(c, end - i);
+            supported &= kind != LITERAL;
+            kinds.add(kind);
+            literals.add(pattern.substring(i, end));
+            i = end;
+        }
+        if (literal.length() > 0) {
+            kinds.add(LITERAL);
+            literals.add(literal.toString());
+        }
+        return supported;
+    }
+
+    private static int kind(char letter, int count) {
+        switch (letter) {
+            case 'y':
+                return count >= 3 ? YEAR : LITERAL;
+            case 'M':
+                return count <= 2 ? MONTH : LITERAL;
+            case 'd':
+                return DAY;
+            case 'H':
+                return HOUR;
+            case 'm':
+                return MINUTE;
+            case 's':
+                return SECOND;
+            case 'S':
+                return MILLI;
+            default:
+                return LITERAL;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.dateflow;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.dateflow.EpochMath.SECONDS_PER_DAY;
+
+/**
+ * Start and end of every local day of a zone, indexed by epoch day over the {@link ZoneTable} year range.
+ * <p>
+ * Each day keeps the offset that resolves its local midnight, and the one that resolves 23:59:59, exactly as
+ * {@link java.time.ZonedDateTime#truncatedTo} and {@code withHour(23).withMinute(59).withSecond(59)} do.
+ * A midnight inside a gap resolves to the end of the gap. Days whose boundary is ambiguous, or whose last hour
+ * holds a transition, are marked and left to {@code ZonedDateTime}, like instants outside the range.
+ * Fixed offset zones need no table.
+ */
+final class DayIndex {
+
+    static final long UNINDEXED = Long.MIN_VALUE;
+
+    private static final int UNRESOLVED = Integer.MIN_VALUE;
+    private static final long LAST_SECOND_OF_DAY = SECONDS_PER_DAY - 1;
+    private static final long LAST_HOUR_OF_DAY = SECONDS_PER_DAY - 3_600;
+    private static final ConcurrentHashMap<ZoneId, DayIndex> SHARED = new ConcurrentHashMap<>();
+
+    private final ZoneTable zoneTable;
+    private final int fixedOffset;
+    private final long firstDay;
+    private final int[] startOffsets;
+    private final int[] endOffsets;
+
+    private DayIndex(ZoneId zoneId, int firstYear, int lastYear) {
+        ZoneRules rules = zoneId.getRules();
+        this.zoneTable = ZoneTable.of(zoneId);
+        this.fixedOffset = OperationsFlow.fixedOffset(zoneId);
+        if (fixedOffset != OperationsFlow.NOT_FIXED) {
+            this.firstDay = 0;
+            this.startOffsets = null;
+            this.endOffsets = null;
+            return;
+        }
+        this.firstDay = EpochMath.epochDay(firstYear, 1, 1);
+        int days = (int) (EpochMath.epochDay(lastYear + 1L, 1, 1) - firstDay);
+        this.startOffsets = new int[days];
+        this.endOffsets = new int[days];
+        ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(firstDay * SECONDS_PER_DAY - 2 * SECONDS_PER_DAY));
+        for (int i = 0; i < days; i++) {
+            long midnight = (firstDay + i) * SECONDS_PER_DAY;
+            while (next != null && next.toEpochSecond() < midnight - 2 * SECONDS_PER_DAY) {
+                next = rules.nextTransition(next.getInstant());
+            }
+            if (next == null || next.toEpochSecond() > midnight + 2 * SECONDS_PER_DAY) {
+                int offset = zoneTable.offsetSeconds(midnight);
+                startOffsets[i] = offset;
+                endOffsets[i] = offset;
+            } else {
+                startOffsets[i] = startOffset(rules, midnight);
+                endOffsets[i] = endOffset(rules, midnight);
+            }
+        }
+    }
+
+    static DayIndex of(ZoneId zoneId) {
+        return SHARED.computeIfAbsent(zoneId, DayIndex::build);
+    }
+
+    private static DayIndex build(ZoneId zoneId) {
+        var event = new ZoneResolveEvent();
+        event.begin();
+        var index = new DayIndex(zoneId, ZoneTable.DEFAULT_FIRST_YEAR, ZoneTable.DEFAULT_LAST_YEAR);
+        event.report(zoneId, ZoneResolveEvent.DAY_INDEX, index.startOffsets == null ? 0 : index.startOffsets.length);
+        return index;
+    }
+
+    /**
+     * @return epoch second of the start of the local day holding {@code epochSecond}, or {@link #UNINDEXED}
+     */
+    long dayStart(long epochSecond) {
+        return startOfDay(Math.floorDiv(zoneTable.localEpochSecond(epochSecond), SECONDS_PER_DAY));
+    }
+
+    /**
+     * @return epoch second of 23:59:59 of the local day holding {@code epochSecond}, or {@link #UNINDEXED}
+     */
+    long dayEnd(long epochSecond) {
+        return endOfDay(Math.floorDiv(zoneTable.localEpochSecond(epochSecond), SECONDS_PER_DAY));
+    }
+
+    long startOfDay(long epochDay) {
+        if (fixedOffset != OperationsFlow.NOT_FIXED) {
+            return epochDay * SECONDS_PER_DAY - fixedOffset;
+        }
+        long index = epochDay - firstDay;
+        if (index < 0 || index >= startOffsets.length || startOffsets[(int) index] == UNRESOLVED) {
+            return UNINDEXED;
+        }
+        return epochDay * SECONDS_PER_DAY - startOffsets[(int) index];
+    }
+
+    long endOfDay(long epochDay) {
+        if (fixedOffset != OperationsFlow.NOT_FIXED) {
+            return epochDay * SECONDS_PER_DAY + LAST_SECOND_OF_DAY - fixedOffset;
+        }
+        long index = epochDay - firstDay;
+        if (index < 0 || index >= endOffsets.length || endOffsets[(int) index] == UNRESOLVED) {
+            return UNINDEXED;
+        }
+        return epochDay * SECONDS_PER_DAY + LAST_SECOND_OF_DAY - endOffsets[(int) index];
+    }
+
+    // A midnight in a gap moves forward by the gap length, which is the same instant as using the offset before.
+    private static int startOffset(ZoneRules rules, long midnight) {
+        var local = LocalDateTime.ofEpochSecond(midnight, 0, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = rules.getTransition(local);
+        if (transition == null) {
+            return rules.getOffset(local).getTotalSeconds();
+        }
+        return transition.isGap() ? transition.getOffsetBefore().getTotalSeconds() : UNRESOLVED;
+    }
+
+    // withHour, withMinute and withSecond resolve one after the other, so the whole last hour must have one offset.
+    private static int endOffset(ZoneRules rules, long midnight) {
+        var lastHour = LocalDateTime.ofEpochSecond(midnight + LAST_HOUR_OF_DAY, 0, ZoneOffset.UTC);
+        if (rules.getTransition(lastHour) != null) {
+            return UNRESOLVED;
+        }
+        int offset = rules.getOffset(lastHour).getTotalSeconds();
+        ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(midnight + LAST_HOUR_OF_DAY - offset));
+        if (next != null && next.toEpochSecond() <= midnight + LAST_SECOND_OF_DAY - offset + 1) {
+            return UNRESOLVED;
+        }
+        return offset;
+    }
+}
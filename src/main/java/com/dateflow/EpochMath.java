@@ -0,0 +1,83 @@
+package com.dateflow;
+
+/**
+ * Proleptic gregorian calendar arithmetic on primitive epoch values.
+ * Civil dates are packed into a single long as {@code year << 9 | month << 5 | day}.
+ */
+final class EpochMath {
+
+    static final long SECONDS_PER_DAY = 86_400L;
+    static final long MILLIS_PER_DAY = 86_400_000L;
+    static final int NANOS_PER_MILLI = 1_000_000;
+    static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    private static final long DAYS_0000_TO_1970 = 719_468L;
+    private static final long DAYS_PER_ERA = 146_097L;
+
+    private EpochMath() {
+    }
+
+    static long epochDay(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    static long civil(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_ERA);
+        long dayOfEra = z - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return pack(year, month, day);
+    }
+
+    static long plusMonths(long epochDay, long months) {
+        long civil = civil(epochDay);
+        long monthCount = year(civil) * 12 + month(civil) - 1 + months;
+        long year = Math.floorDiv(monthCount, 12);
+        int month = Math.floorMod(monthCount, 12) + 1;
+        return epochDay(year, month, Math.min(day(civil), lengthOfMonth(year, month)));
+    }
+
+    static long pack(long year, int month, int day) {
+        return year << 9 | (long) month << 5 | day;
+    }
+
+    static long year(long civil) {
+        return civil >> 9;
+    }
+
+    static int month(long civil) {
+        return (int) (civil >>> 5) & 0xF;
+    }
+
+    static int day(long civil) {
+        return (int) civil & 0x1F;
+    }
+
+    static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+}
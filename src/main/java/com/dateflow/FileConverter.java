@@ -0,0 +1,346 @@
+package com.dateflow;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import static com.dateflow.Constants.TIME_ZONE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Rewrites one timestamp per record of a CSV or NDJSON file.
+ * <p>
+ * The input is memory mapped chunk by chunk and records are converted one at a time, only the timestamp bytes are
+ * parsed and everything else is copied through a fixed size output buffer, so memory stays bounded by the chunk and
+ * buffer sizes whatever the file size. Records must be separated by {@code \n} and fit in one chunk.
+ * NDJSON fields are located by the first {@code "field"} preceded by {@code {} or {@code ,} and followed by {@code :}
+ * in the record, without a full JSON parse.
+ * <p>
+ * The output is written next to the target as {@code <output>.part} and moved over the target once every record is
+ * converted, a failed conversion leaves the target untouched.
+ */
+public final class FileConverter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 << 20;
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private static final int MAX_FORMATTED_LENGTH = 512;
+
+    private final FlowTemplate<Instant> template;
+    private final ZoneId outputZoneId;
+    private final String outputFormat;
+    private int column;
+    private byte delimiter = ',';
+    private byte[] fieldKey;
+    private boolean skipHeader;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     * @param template     parsing, operations and output zone to apply, built with {@link DateFlow#template(String, ZoneId)}
+     * @param outputFormat pattern of the rewritten timestamps
+     */
+    public FileConverter(TransformerTemplate template, String outputFormat) {
+        this.template = template.instant();
+        this.outputZoneId = template.outputZoneId();
+        this.outputFormat = outputFormat;
+        FormatterCache.shared().register(outputFormat, outputZoneId);
+    }
+
+    public FileConverter csv(int column) {
+        return csv(column, ',');
+    }
+
+    public FileConverter csv(int column, char delimiter) {
+        if (column < 0) {
+            throw new IllegalArgumentException("column must not be negative: " + column);
+        }
+        if (delimiter > 127 || delimiter == '"' || delimiter == '\n') {
+            throw new IllegalArgumentException("delimiter must be a single ASCII character: " + delimiter);
+        }
+        this.column = column;
+        this.delimiter = (byte) delimiter;
+        this.fieldKey = null;
+        return this;
+    }
+
+    public FileConverter ndjson(String field) {
+        this.fieldKey = ('"' + field + '"').getBytes(UTF_8);
+        return this;
+    }
+
+    public FileConverter skipHeader() {
+        this.skipHeader = true;
+        return this;
+    }
+
+    public FileConverter chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public FileConverter bufferSize(int bufferSize) {
+        if (bufferSize < MAX_FORMATTED_LENGTH) {
+            throw new IllegalArgumentException("bufferSize must be at least " + MAX_FORMATTED_LENGTH + ": " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    public ConversionReport convert(Path input, Path output) throws IOException, ParseException {
+        Path partial = output.resolveSibling(output.getFileName() + ".part");
+        ConversionReport report;
+        try {
+            report = convertTo(input, partial);
+        } catch (IOException | ParseException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        try {
+            Files.move(partial, output, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partial, output, REPLACE_EXISTING);
+        }
+        return report;
+    }
+
+    private ConversionReport convertTo(Path input, Path output) throws IOException, ParseException {
+        long started = System.nanoTime();
+        try (var in = FileChannel.open(input, READ);
+             var out = FileChannel.open(output, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            var run = new Run(out);
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(chunkSize, size - position);
+                boolean last = position + length == size;
+                int consumed = run.convertChunk(in.map(FileChannel.MapMode.READ_ONLY, position, length), position, last);
+                if (consumed == 0) {
+                    throw new IOException("Record at byte " + position + " is longer than the chunk size " + chunkSize);
+                }
+                position += consumed;
+            }
+            run.flush();
+            return new ConversionReport(run.rows, size, run.bytesWritten, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * {@code FileConverter csv|ndjson <column|field> <inputPattern> <inputZone> <outputPattern> <outputZone> <input> <output>}
+     */
+    public static void main(String[] args) throws IOException, ParseException {
+        if (args.length != 8 || !("csv".equals(args[0]) || "ndjson".equals(args[0]))) {
+            System.err.println("usage: FileConverter csv|ndjson <column|field> <inputPattern> <inputZone> "
+                    + "<outputPattern> <outputZone> <input> <output>");
+            System.exit(2);
+        }
+        var template = DateFlow.template(args[2], ZoneId.of(args[3]))
+                .as()
+                .zoneId(ZoneId.of(args[5]));
+        var converter = new FileConverter(template, args[4]);
+        if ("csv".equals(args[0])) {
+            converter.csv(Integer.parseInt(args[1]));
+        } else {
+            converter.ndjson(args[1]);
+        }
+        System.out.println(converter.convert(Paths.get(args[6]), Paths.get(args[7])));
+    }
+
+    private final class Run {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final TransformerFlow transformerFlow;
+        private long rows;
+        private long lines;
+        private long bytesWritten;
+
+        Run(FileChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+            this.transformerFlow = new TransformerFlow(ZoneId.of(TIME_ZONE), Instant.EPOCH, TimeZone.getTimeZone(TIME_ZONE))
+                    .zoneId(outputZoneId);
+        }
+
+        // Converts every complete record of the chunk and returns the number of bytes consumed.
+        int convertChunk(MappedByteBuffer chunk, long chunkPosition, boolean last) throws IOException, ParseException {
+            var source = chunk.duplicate();
+            int limit = chunk.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = indexOf(chunk, (byte) '\n', lineStart, limit);
+                if (lineEnd < 0) {
+                    if (!last) {
+                        break;
+                    }
+                    lineEnd = limit;
+                }
+                int next = lineEnd < limit ? lineEnd + 1 : limit;
+                int contentEnd = lineEnd > lineStart && chunk.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                lines++;
+                if (contentEnd == lineStart || (skipHeader && lines == 1)) {
+                    copy(source, lineStart, next);
+                } else {
+                    convertRecord(chunk, source, chunkPosition, lineStart, contentEnd, next);
+                }
+                lineStart = next;
+            }
+            return lineStart;
+        }
+
+        private void convertRecord(MappedByteBuffer chunk, ByteBuffer source, long chunkPosition,
+                                   int start, int end, int next) throws IOException, ParseException {
+            long field = fieldKey == null ? csvField(chunk, start, end) : jsonField(chunk, start, end);
+            if (field < 0) {
+                throw new ParseException("Missing timestamp at line " + lines, (int) Math.min(Integer.MAX_VALUE, chunkPosition + start));
+            }
+            int valueStart = (int) (field >>> 32);
+            int valueEnd = (int) field;
+            Instant instant;
+            try {
+                instant = template.apply(chunk, valueStart, valueEnd);
+            } catch (ParseException e) {
+                throw new ParseException(e.getMessage() + " at line " + lines, e.getErrorOffset());
+            }
+            copy(source, start, valueStart);
+            if (buffer.remaining() < MAX_FORMATTED_LENGTH) {
+                flush();
+            }
+            transformerFlow.instant(instant.getEpochSecond(), instant.getNano());
+            transformerFlow.formatTo(outputFormat, buffer);
+            copy(source, valueEnd, next);
+            rows++;
+        }
+
+        // Returns the value range packed as start << 32 | end, quotes excluded, or -1 when the record is too short.
+        private long csvField(ByteBuffer chunk, int start, int end) {
+            int position = start;
+            for (int index = 0; ; index++) {
+                int fieldStart = position;
+                int fieldEnd;
+                boolean quoted = position < end && chunk.get(position) == '"';
+                if (quoted) {
+                    position++;
+                    while (position < end) {
+                        if (chunk.get(position) == '"') {
+                            if (position + 1 < end && chunk.get(position + 1) == '"') {
+                                position += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        position++;
+                    }
+                    fieldEnd = position;
+                    position = indexOf(chunk, delimiter, Math.min(position + 1, end), end);
+                } else {
+                    position = indexOf(chunk, delimiter, position, end);
+                    fieldEnd = position < 0 ? end : position;
+                }
+                if (index == column) {
+                    return (long) (quoted ? fieldStart + 1 : fieldStart) << 32 | fieldEnd;
+                }
+                if (position < 0) {
+                    return -1;
+                }
+                position++;
+            }
+        }
+
+        private long jsonField(ByteBuffer chunk, int start, int end) {
+            int position = start;
+            while (true) {
+                position = indexOf(chunk, fieldKey[0], position, end);
+                if (position < 0 || position + fieldKey.length > end) {
+                    return -1;
+                }
+                if (matches(chunk, position) && isKeyStart(chunk, start, position)) {
+                    int colon = skipWhitespace(chunk, position + fieldKey.length, end);
+                    if (colon < end && chunk.get(colon) == ':') {
+                        position = colon;
+                        break;
+                    }
+                }
+                position++;
+            }
+            position = skipWhitespace(chunk, position + 1, end);
+            if (position >= end || chunk.get(position) != '"') {
+                return -1;
+            }
+            int valueEnd = indexOf(chunk, (byte) '"', position + 1, end);
+            return valueEnd < 0 ? -1 : (long) (position + 1) << 32 | valueEnd;
+        }
+
+        private boolean matches(ByteBuffer chunk, int position) {
+            for (int i = 1; i < fieldKey.length; i++) {
+                if (chunk.get(position + i) != fieldKey[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // A key opens the object or follows a comma, a quoted value follows a colon.
+        private boolean isKeyStart(ByteBuffer chunk, int start, int position) {
+            int before = position - 1;
+            while (before >= start && (chunk.get(before) == ' ' || chunk.get(before) == '\t')) {
+                before--;
+            }
+            return before >= start && (chunk.get(before) == '{' || chunk.get(before) == ',');
+        }
+
+        private int skipWhitespace(ByteBuffer chunk, int position, int end) {
+            while (position < end && (chunk.get(position) == ' ' || chunk.get(position) == '\t')) {
+                position++;
+            }
+            return position;
+        }
+
+        private void copy(ByteBuffer source, int from, int to) throws IOException {
+            while (from < to) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int length = Math.min(to - from, buffer.remaining());
+                source.limit(from + length).position(from);
+                buffer.put(source);
+                from += length;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                bytesWritten += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    private static int indexOf(ByteBuffer chunk, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (chunk.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
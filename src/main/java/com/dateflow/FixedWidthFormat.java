@@ -0,0 +1,241 @@
+package com.dateflow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dateflow.EpochMath.SECONDS_PER_DAY;
+
+/**
+ * Pattern made only of fixed width numeric fields and ASCII literals, written as digits without going through
+ * {@link java.time.format.DateTimeFormatter}. Produces the same output as the formatter for years 1 to 9999.
+ */
+final class FixedWidthFormat {
+
+    private static final byte LITERAL = 0;
+    private static final byte YEAR = 1;
+    private static final byte MONTH = 2;
+    private static final byte DAY = 3;
+    private static final byte HOUR = 4;
+    private static final byte MINUTES = 5;
+    private static final byte SECONDS = 6;
+    private static final byte NANO = 7;
+    private static final byte YEAR_OF_CENTURY = 8;
+
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000,
+            100_000_000, 1_000_000_000};
+
+    private static final FixedWidthFormat UNSUPPORTED = new FixedWidthFormat(new byte[0], new byte[0], new int[0]);
+    private static final BoundedCache<String, FixedWidthFormat> CACHE =
+            new BoundedCache<>(FormatterCache.DEFAULT_MAXIMUM_SIZE);
+
+    private final byte[] fields;
+    private final byte[] literals;
+    private final int[] divisors;
+
+    private FixedWidthFormat(byte[] fields, byte[] literals, int[] divisors) {
+        this.fields = fields;
+        this.literals = literals;
+        this.divisors = divisors;
+    }
+
+    /**
+     * @return compiled format or {@code null} when the pattern has text, variable width or non ASCII elements
+     */
+    static FixedWidthFormat of(String pattern) {
+        FixedWidthFormat format = CACHE.get(pattern, FixedWidthFormat::compile);
+        return format == UNSUPPORTED ? null : format;
+    }
+
+    int width() {
+        return fields.length;
+    }
+
+    static boolean supports(long localEpochSecond) {
+        return localEpochSecond >= -62_135_596_800L && localEpochSecond < 253_402_300_800L;
+    }
+
+    int write(long localEpochSecond, int nano, byte[] target, int offset) {
+        long civil = EpochMath.civil(Math.floorDiv(localEpochSecond, SECONDS_PER_DAY));
+        int secondOfDay = (int) Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+        int year = (int) EpochMath.year(civil);
+        int month = EpochMath.month(civil);
+        int day = EpochMath.day(civil);
+        for (int i = 0; i < fields.length; i++) {
+            target[offset + i] = (byte) charAt(i, year, month, day, secondOfDay, nano);
+        }
+        return fields.length;
+    }
+
+    void write(long localEpochSecond, int nano, StringBuilder target) {
+        long civil = EpochMath.civil(Math.floorDiv(localEpochSecond, SECONDS_PER_DAY));
+        int secondOfDay = (int) Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+        int year = (int) EpochMath.year(civil);
+        int month = EpochMath.month(civil);
+        int day = EpochMath.day(civil);
+        for (int i = 0; i < fields.length; i++) {
+            target.append(charAt(i, year, month, day, secondOfDay, nano));
+        }
+    }
+
+    void write(long localEpochSecond, int nano, Appendable target) throws IOException {
+        long civil = EpochMath.civil(Math.floorDiv(localEpochSecond, SECONDS_PER_DAY));
+        int secondOfDay = (int) Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+        int year = (int) EpochMath.year(civil);
+        int month = EpochMath.month(civil);
+        int day = EpochMath.day(civil);
+        for (int i = 0; i < fields.length; i++) {
+            target.append(charAt(i, year, month, day, secondOfDay, nano));
+        }
+    }
+
+    void write(long localEpochSecond, int nano, ByteBuffer target) {
+        if (target.remaining() < fields.length) {
+            throw new BufferOverflowException();
+        }
+        if (target.hasArray()) {
+            write(localEpochSecond, nano, target.array(), target.arrayOffset() + target.position());
+            target.position(target.position() + fields.length);
+            return;
+        }
+        long civil = EpochMath.civil(Math.floorDiv(localEpochSecond, SECONDS_PER_DAY));
+        int secondOfDay = (int) Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+        int year = (int) EpochMath.year(civil);
+        int month = EpochMath.month(civil);
+        int day = EpochMath.day(civil);
+        for (int i = 0; i < fields.length; i++) {
+            target.put((byte) charAt(i, year, month, day, secondOfDay, nano));
+        }
+    }
+
+    private char charAt(int index, int year, int month, int day, int secondOfDay, int nano) {
+        int value;
+        switch (fields[index]) {
+            case LITERAL:
+                return (char) literals[index];
+            case YEAR:
+                value = year;
+                break;
+            case YEAR_OF_CENTURY:
+                value = year % 100;
+                break;
+            case MONTH:
+                value = month;
+                break;
+            case DAY:
+                value = day;
+                break;
+            case HOUR:
+                value = secondOfDay / 3_600;
+                break;
+            case MINUTES:
+                value = secondOfDay / 60 % 60;
+                break;
+            case SECONDS:
+                value = secondOfDay % 60;
+                break;
+            default:
+                value = nano;
+        }
+        return (char) ('0' + value / divisors[index] % 10);
+    }
+
+    private static FixedWidthFormat compile(String pattern) {
+        var fields = new ByteArrayOutputStream();
+        var literals = new ByteArrayOutputStream();
+        var divisors = new ArrayList<Integer>();
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = i + 1;
+                var quoted = new StringBuilder();
+                while (true) {
+                    if (end >= length) {
+                        return UNSUPPORTED;
+                    }
+                    if (pattern.charAt(end) == '\'') {
+                        if (end + 1 < length && pattern.charAt(end + 1) == '\'') {
+                            quoted.append('\'');
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    quoted.append(pattern.charAt(end++));
+                }
+                if (end == i + 1) {
+                    quoted.append('\'');
+                }
+                for (int k = 0; k < quoted.length(); k++) {
+                    if (!literal(quoted.charAt(k), fields, literals, divisors)) {
+                        return UNSUPPORTED;
+                    }
+                }
+                i = end + 1;
+                continue;
+            }
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                int count = 1;
+                while (i + count < length && pattern.charAt(i + count) == c) {
+                    count++;
+                }
+                byte field = field(c, count);
+                if (field == LITERAL) {
+                    return UNSUPPORTED;
+                }
+                int width = field == NANO ? count : field == YEAR ? 4 : 2;
+                for (int k = 0; k < width; k++) {
+                    fields.write(field);
+                    literals.write(0);
+                    divisors.add(field == NANO ? POWERS_OF_TEN[8 - k] : POWERS_OF_TEN[width - 1 - k]);
+                }
+                i += count;
+                continue;
+            }
+            if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#' || !literal(c, fields, literals, divisors)) {
+                return UNSUPPORTED;
+            }
+            i++;
+        }
+        return new FixedWidthFormat(fields.toByteArray(), literals.toByteArray(),
+                divisors.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static boolean literal(char c, ByteArrayOutputStream fields, ByteArrayOutputStream literals,
+                                   List<Integer> divisors) {
+        if (c >= 128) {
+            return false;
+        }
+        fields.write(LITERAL);
+        literals.write(c);
+        divisors.add(1);
+        return true;
+    }
+
+    private static byte field(char letter, int count) {
+        switch (letter) {
+            case 'y':
+            case 'u':
+                return count == 4 ? YEAR : count == 2 ? YEAR_OF_CENTURY : LITERAL;
+            case 'M':
+                return count == 2 ? MONTH : LITERAL;
+            case 'd':
+                return count == 2 ? DAY : LITERAL;
+            case 'H':
+                return count == 2 ? HOUR : LITERAL;
+            case 'm':
+                return count == 2 ? MINUTES : LITERAL;
+            case 's':
+                return count == 2 ? SECONDS : LITERAL;
+            case 'S':
+                return count <= 9 ? NANO : LITERAL;
+            default:
+                return LITERAL;
+        }
+    }
+}
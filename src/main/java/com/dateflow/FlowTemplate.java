@@ -0,0 +1,99 @@
+package com.dateflow;
+
+import java.nio.ByteBuffer;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.function.Function;
+
+import static com.dateflow.EpochMath.NANOS_PER_MILLI;
+
+/**
+ * Compiled, immutable chain of operations and an export, safe to share between threads.
+ * Zones, parser and formatter are resolved once when the template is built.
+ */
+public final class FlowTemplate<T> {
+
+    private final DateParser parser;
+    private final byte[] operations;
+    private final long[] arguments;
+    private final ZoneId zoneId;
+    private final TimeZone timeZone;
+    private final int offset;
+    private final Function<Instant, T> exporter;
+
+    FlowTemplate(DateParser parser, byte[] operations, long[] arguments, ZoneId zoneId, Function<Instant, T> exporter) {
+        this.parser = parser;
+        this.operations = operations;
+        this.arguments = arguments;
+        this.zoneId = zoneId;
+        this.timeZone = TimeZone.getTimeZone(zoneId);
+        this.offset = OperationsFlow.fixedOffset(zoneId);
+        this.exporter = exporter;
+    }
+
+    public T apply(long millis) {
+        return apply(Math.floorDiv(millis, 1000), Math.floorMod(millis, 1000) * NANOS_PER_MILLI);
+    }
+
+    public T apply(Instant instant) {
+        return apply(instant.getEpochSecond(), instant.getNano());
+    }
+
+    public T apply(String date) throws ParseException {
+        return apply(parser().parse(date));
+    }
+
+    public T apply(CharSequence date, int start, int end) throws ParseException {
+        return apply(parser().parse(date, start, end));
+    }
+
+    public T apply(byte[] date, int start, int end) throws ParseException {
+        return apply(parser().parse(date, start, end));
+    }
+
+    public T apply(ByteBuffer date, int start, int end) throws ParseException {
+        return apply(parser().parse(date, start, end));
+    }
+
+    /**
+     * Applies the template to a parsed date, an unparseable date gives an empty result without any exception.
+     */
+    public Optional<T> tryApply(CharSequence date) {
+        return tryApply(date, 0, date.length());
+    }
+
+    public Optional<T> tryApply(CharSequence date, int start, int end) {
+        var position = new ParsePosition(start);
+        long millis = parser().tryParse(date, start, end, position);
+        return position.getErrorIndex() < 0 ? Optional.of(apply(millis)) : Optional.empty();
+    }
+
+    public Optional<T> tryApply(byte[] date, int start, int end) {
+        var position = new ParsePosition(start);
+        long millis = parser().tryParse(date, start, end, position);
+        return position.getErrorIndex() < 0 ? Optional.of(apply(millis)) : Optional.empty();
+    }
+
+    public Optional<T> tryApply(ByteBuffer date, int start, int end) {
+        var position = new ParsePosition(start);
+        long millis = parser().tryParse(date, start, end, position);
+        return position.getErrorIndex() < 0 ? Optional.of(apply(millis)) : Optional.empty();
+    }
+
+    private DateParser parser() {
+        if (parser == null) {
+            throw new IllegalStateException("Template has no date format, use DateFlow.template(String dateFormat)");
+        }
+        return parser;
+    }
+
+    private T apply(long epochSecond, int nano) {
+        var operationsFlow = new OperationsFlow(zoneId, timeZone, epochSecond, nano);
+        operationsFlow.replay(operations, arguments, operations.length, offset);
+        return exporter.apply(operationsFlow.instant());
+    }
+}
@@ -0,0 +1,273 @@
+package com.dateflow;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Processor} applying a {@link FlowTemplate} to every element, for a single downstream subscriber.
+ * <p>
+ * Conversions run on the executor, never on the thread delivering upstream elements. One executor task drains
+ * everything that is buffered and requested before returning, so elements are converted in batches rather than
+ * scheduled one by one. Upstream is asked for twice the batch size up front and for another batch each time a batch
+ * has been emitted, so at most two batches are buffered and downstream demand is never exceeded.
+ * A text that can not be parsed cancels upstream and is signalled with {@code onError}.
+ */
+public final class FlowTemplateProcessor<I, T> implements Flow.Processor<I, T> {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final FlowTemplate<T> template;
+    private final Conversion<I, T> conversion;
+    private final Queue<I> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private Executor executor = ForkJoinPool.commonPool();
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super T> downstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private volatile Throwable failure;
+    private Throwable error;
+    private int consumed;
+
+    private FlowTemplateProcessor(FlowTemplate<T> template, Conversion<I, T> conversion) {
+        this.template = Objects.requireNonNull(template, "template");
+        this.conversion = conversion;
+    }
+
+    public static <T> FlowTemplateProcessor<Long, T> millis(FlowTemplate<T> template) {
+        return new FlowTemplateProcessor<>(template, FlowTemplate::apply);
+    }
+
+    public static <T> FlowTemplateProcessor<Instant, T> instants(FlowTemplate<T> template) {
+        return new FlowTemplateProcessor<>(template, FlowTemplate::apply);
+    }
+
+    /**
+     * @param template built with a date format, such as {@link DateFlow#template(String)}
+     */
+    public static <T> FlowTemplateProcessor<CharSequence, T> strings(FlowTemplate<T> template) {
+        return new FlowTemplateProcessor<>(template, (flowTemplate, date) -> flowTemplate.apply(date, 0, date.length()));
+    }
+
+    public FlowTemplateProcessor<I, T> executor(Executor executor) {
+        checkNotStarted();
+        this.executor = Objects.requireNonNull(executor, "executor");
+        return this;
+    }
+
+    public FlowTemplateProcessor<I, T> batchSize(int batchSize) {
+        checkNotStarted();
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(new Rejected());
+                subscriber.onError(new IllegalStateException("FlowTemplateProcessor supports a single subscriber"));
+                return;
+            }
+            downstream = subscriber;
+        }
+        subscriber.onSubscribe(new Demand());
+        start();
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+        }
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
+        start();
+    }
+
+    @Override
+    public void onNext(I item) {
+        Objects.requireNonNull(item, "item");
+        if (cancelled) {
+            return;
+        }
+        queue.offer(item);
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = Objects.requireNonNull(throwable, "throwable");
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private void start() {
+        if (upstream != null && downstream != null && started.compareAndSet(false, true)) {
+            upstream.request(2L * batchSize);
+        }
+    }
+
+    private void checkNotStarted() {
+        if (upstream != null || downstream != null) {
+            throw new IllegalStateException("FlowTemplateProcessor is already subscribed");
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            executor.execute(this::emit);
+        }
+    }
+
+    // Runs on the executor, a single instance at a time.
+    private void emit() {
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super T> subscriber = downstream;
+            if (subscriber == null) {
+                missed = wip.addAndGet(-missed);
+                continue;
+            }
+            if (failure != null) {
+                cancelled = true;
+                queue.clear();
+                subscriber.onError(failure);
+                return;
+            }
+            long demand = requested.get();
+            long emitted = 0;
+            while (emitted != demand) {
+                if (cancelled) {
+                    queue.clear();
+                    return;
+                }
+                boolean finished = done;
+                I item = queue.poll();
+                if (item == null) {
+                    if (finished) {
+                        terminate(subscriber);
+                        return;
+                    }
+                    break;
+                }
+                T value;
+                try {
+                    value = conversion.apply(template, item);
+                } catch (ParseException | RuntimeException e) {
+                    cancel();
+                    subscriber.onError(e);
+                    return;
+                }
+                subscriber.onNext(value);
+                emitted++;
+                if (++consumed == batchSize) {
+                    consumed = 0;
+                    upstream.request(batchSize);
+                }
+            }
+            if (cancelled) {
+                queue.clear();
+                return;
+            }
+            if (done && queue.isEmpty()) {
+                terminate(subscriber);
+                return;
+            }
+            if (emitted != 0 && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void terminate(Flow.Subscriber<? super T> subscriber) {
+        cancelled = true;
+        if (error != null) {
+            subscriber.onError(error);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    private void cancel() {
+        cancelled = true;
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Conversion<I, T> {
+        T apply(FlowTemplate<T> template, I item) throws ParseException;
+    }
+
+    private final class Demand implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException("non-positive subscription request: " + n);
+                Flow.Subscription subscription = upstream;
+                if (subscription != null) {
+                    subscription.cancel();
+                }
+                drain();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            FlowTemplateProcessor.this.cancel();
+            drain();
+        }
+    }
+
+    private static final class Rejected implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            // nothing to deliver
+        }
+
+        @Override
+        public void cancel() {
+            // nothing to release
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dateflow;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.time.ZoneId;
+
+/**
+ * Flight recorder event of one {@link TransformerFlow} string export, committed only while a recording enables it
+ * and the export took longer than the threshold.
+ */
+@Name("dateflow.Format")
+@Label("DateFlow Format")
+@Category("DateFlow")
+@Description("Instant formatted by a TransformerFlow")
+@StackTrace
+@Threshold("1 ms")
+final class FormatEvent extends Event {
+
+    static final String FIXED_WIDTH = "fixedWidth";
+    static final String FORMATTER = "formatter";
+
+    @Label("Pattern")
+    String pattern;
+
+    @Label("Zone")
+    String zone;
+
+    @Label("Outcome")
+    @Description("fixedWidth writer or cached DateTimeFormatter")
+    String outcome;
+
+    void report(String pattern, ZoneId zoneId, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.pattern = pattern;
+            this.zone = zoneId.getId();
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
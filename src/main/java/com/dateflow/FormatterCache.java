@@ -0,0 +1,72 @@
+package com.dateflow;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Bounded, thread-safe cache of compiled {@link DateTimeFormatter}s keyed by pattern, zone and locale.
+ */
+public final class FormatterCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private static final FormatterCache SHARED = new FormatterCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final BoundedCache<PatternKey, DateTimeFormatter> cache;
+
+    public FormatterCache(int maximumSize) {
+        this.cache = new BoundedCache<>(maximumSize);
+    }
+
+    public static FormatterCache shared() {
+        return SHARED;
+    }
+
+    public DateTimeFormatter formatter(String pattern, ZoneId zoneId) {
+        return formatter(pattern, zoneId, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public DateTimeFormatter formatter(String pattern, ZoneId zoneId, Locale locale) {
+        return cache.get(new PatternKey(pattern, zoneId, locale), FormatterCache::compile);
+    }
+
+    public FormatterCache register(String pattern, ZoneId zoneId) {
+        return register(pattern, zoneId, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public FormatterCache register(String pattern, ZoneId zoneId, Locale locale) {
+        cache.put(new PatternKey(pattern, zoneId, locale), FormatterCache::compile);
+        return this;
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int maximumSize() {
+        return cache.maximumSize();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private static DateTimeFormatter compile(PatternKey key) {
+        return DateTimeFormatter
+                .ofPattern(key.pattern, key.locale)
+                .withZone(key.zoneId);
+    }
+}
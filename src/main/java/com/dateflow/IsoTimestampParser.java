@@ -0,0 +1,168 @@
+package com.dateflow;
+
+import static com.dateflow.Constants.DATE_FORMAT;
+
+/**
+ * Fixed width parser of {@code yyyy-MM-dd'T'HH:mm:ss.SSS'Z'} and {@code yyyy-MM-dd'T'HH:mm:ss'Z'} texts.
+ * <p>
+ * Characters are packed 8 at a time into a little endian {@code long}, one byte per character, and validated with
+ * two word wide comparisons: every separator and the high nibble of every digit must equal the layout, and every
+ * digit low nibble must be at most 9. Digits are then combined in pairs for all lanes at once. Anything else,
+ * including non ASCII characters, is left to the general parser.
+ */
+final class IsoTimestampParser {
+
+    static final int NONE = 0;
+    static final int MILLIS = 1;
+    static final int SECONDS = 2;
+
+    static final String SECONDS_FORMAT = "yyyy-MM-dd'T'HH:mm:ss'Z'";
+
+    /**
+     * Returned when the text does not match the layout.
+     */
+    static final long INVALID = -1;
+
+    private static final long LOW_NIBBLES = 0x0F0F_0F0F_0F0F_0F0FL;
+    private static final long SIXES = 0x0606_0606_0606_0606L;
+    private static final long FOURTH_BITS = 0x1010_1010_1010_1010L;
+
+    private static final long DATE_EXPECTED = expected("0000-00-");
+    private static final long DATE_DIGITS = digits("0000-00-");
+    private static final long TIME_EXPECTED = expected("00T00:00");
+    private static final long TIME_DIGITS = digits("00T00:00");
+    private static final long MILLIS_EXPECTED = expected(":00.000Z");
+    private static final long MILLIS_DIGITS = digits(":00.000Z");
+    private static final long SECONDS_EXPECTED = expected(":00Z");
+    private static final long SECONDS_DIGITS = digits(":00Z");
+
+    private IsoTimestampParser() {
+    }
+
+    static int layout(String pattern) {
+        if (DATE_FORMAT.equals(pattern)) {
+            return MILLIS;
+        }
+        return SECONDS_FORMAT.equals(pattern) ? SECONDS : NONE;
+    }
+
+    /**
+     * @return fields packed for {@link #year(long)} and the other accessors, or {@link #INVALID}
+     */
+    static long parse(CharSequence text, int from, int to, int layout) {
+        int length = layout == MILLIS ? 24 : 20;
+        if (to - from != length) {
+            return INVALID;
+        }
+        long date = word(text, from, 8);
+        long time = word(text, from + 8, 8);
+        long last = word(text, from + 16, length - 16);
+        long lastExpected = layout == MILLIS ? MILLIS_EXPECTED : SECONDS_EXPECTED;
+        long lastDigits = layout == MILLIS ? MILLIS_DIGITS : SECONDS_DIGITS;
+        if (date == INVALID || time == INVALID || last == INVALID
+                || !matches(date, DATE_EXPECTED, DATE_DIGITS)
+                || !matches(time, TIME_EXPECTED, TIME_DIGITS)
+                || !matches(last, lastExpected, lastDigits)) {
+            return INVALID;
+        }
+        long datePairs = pairs(date & DATE_DIGITS & LOW_NIBBLES);
+        long timePairs = pairs(time & TIME_DIGITS & LOW_NIBBLES);
+        long lastDigitValues = last & lastDigits & LOW_NIBBLES;
+        long lastPairs = pairs(lastDigitValues);
+        long year = lane(datePairs, 0) * 100 + lane(datePairs, 2);
+        long month = lane(datePairs, 5);
+        long day = lane(timePairs, 0);
+        long hour = lane(timePairs, 3);
+        long minute = lane(timePairs, 6);
+        long second = lane(lastPairs, 1);
+        long milli = layout == MILLIS ? lane(lastPairs, 4) * 10 + lane(lastDigitValues, 6) : 0;
+        // Lanes hold up to 99, anything wider than its packed field is left for the general parser to reject.
+        if (month > 12 || day > 31 || hour > 23 || minute > 59 || second > 59) {
+            return INVALID;
+        }
+        return year << 36
+                | month << 32
+                | day << 27
+                | hour << 22
+                | minute << 16
+                | second << 10
+                | milli;
+    }
+
+    static long year(long fields) {
+        return fields >>> 36;
+    }
+
+    static int month(long fields) {
+        return (int) (fields >>> 32) & 0xF;
+    }
+
+    static int day(long fields) {
+        return (int) (fields >>> 27) & 0x1F;
+    }
+
+    static int hour(long fields) {
+        return (int) (fields >>> 22) & 0x1F;
+    }
+
+    static int minute(long fields) {
+        return (int) (fields >>> 16) & 0x3F;
+    }
+
+    static int second(long fields) {
+        return (int) (fields >>> 10) & 0x3F;
+    }
+
+    static int milli(long fields) {
+        return (int) fields & 0x3FF;
+    }
+
+    // Separators and digit high nibbles must equal the layout, digit low nibbles must not exceed 9.
+    private static boolean matches(long word, long expected, long digits) {
+        if (((word ^ expected) & ~(digits & LOW_NIBBLES)) != 0) {
+            return false;
+        }
+        return (((word & digits & LOW_NIBBLES) + (digits & SIXES)) & (digits & FOURTH_BITS)) == 0;
+    }
+
+    // Lane i becomes 10 * digit i + digit i + 1, lanes never carry as each holds at most 99.
+    private static long pairs(long digits) {
+        return digits * 10 + (digits >>> 8);
+    }
+
+    private static long lane(long word, int lane) {
+        return (word >>> (lane * 8)) & 0xFF;
+    }
+
+    private static long word(CharSequence text, int from, int count) {
+        if (count == 8 && text instanceof AsciiCharSequence) {
+            return ((AsciiCharSequence) text).word(from);
+        }
+        long word = 0;
+        int all = 0;
+        for (int i = 0; i < count; i++) {
+            char c = text.charAt(from + i);
+            all |= c;
+            word |= (long) c << (i * 8);
+        }
+        return (all & 0xFF80) == 0 ? word : INVALID;
+    }
+
+    private static long expected(String layout) {
+        long word = 0;
+        for (int i = 0; i < layout.length(); i++) {
+            word |= (long) layout.charAt(i) << (i * 8);
+        }
+        return word;
+    }
+
+    private static long digits(String layout) {
+        long word = 0;
+        for (int i = 0; i < layout.length(); i++) {
+            if (layout.charAt(i) == '0') {
+                word |= 0xFFL << (i * 8);
+            }
+        }
+        return word;
+    }
+}
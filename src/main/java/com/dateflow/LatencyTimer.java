@@ -0,0 +1,56 @@
+package com.dateflow;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped call counter with a latency histogram of power of two nanosecond buckets.
+ */
+final class LatencyTimer {
+
+    static final int BUCKETS = 65;
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    LatencyTimer(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the time elapsed since {@code start}, a value returned by {@link DateFlowMetrics#start()}.
+     */
+    void stop(long start) {
+        if (start == DateFlowMetrics.DISABLED) {
+            return;
+        }
+        record(System.nanoTime() - start);
+    }
+
+    void record(long nanos) {
+        long elapsed = Math.max(nanos, 0);
+        count.increment();
+        totalNanos.add(elapsed);
+        buckets[64 - Long.numberOfLeadingZeros(elapsed)].increment();
+    }
+
+    MetricsSnapshot.TimerSnapshot snapshot() {
+        var counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new MetricsSnapshot.TimerSnapshot(name, count.sum(), totalNanos.sum(), counts);
+    }
+
+    void reset() {
+        count.reset();
+        totalNanos.reset();
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+}
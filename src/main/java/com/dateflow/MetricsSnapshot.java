@@ -0,0 +1,131 @@
+package com.dateflow;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Point in time copy of the {@link DateFlowMetrics} counters.
+ */
+public final class MetricsSnapshot {
+
+    private final Map<String, TimerSnapshot> timers;
+    private final Map<String, Long> counters;
+    private final Map<String, Long> parseFailures;
+    private final long formatterCacheHits;
+    private final long formatterCacheMisses;
+
+    MetricsSnapshot(Map<String, TimerSnapshot> timers, Map<String, Long> counters, Map<String, Long> parseFailures,
+                    long formatterCacheHits, long formatterCacheMisses) {
+        this.timers = Collections.unmodifiableMap(timers);
+        this.counters = Collections.unmodifiableMap(counters);
+        this.parseFailures = Collections.unmodifiableMap(parseFailures);
+        this.formatterCacheHits = formatterCacheHits;
+        this.formatterCacheMisses = formatterCacheMisses;
+    }
+
+    /**
+     * @return latency per entry point, such as {@code DateParser.parse} or {@code TransformerFlow.string}
+     */
+    public Map<String, TimerSnapshot> timers() {
+        return timers;
+    }
+
+    public TimerSnapshot timer(String name) {
+        return timers.get(name);
+    }
+
+    /**
+     * @return call counts of recorded operations, such as {@code OperationsFlow.plusDays}
+     */
+    public Map<String, Long> counters() {
+        return counters;
+    }
+
+    /**
+     * @return failed parses per pattern
+     */
+    public Map<String, Long> parseFailures() {
+        return parseFailures;
+    }
+
+    public long formatterCacheHits() {
+        return formatterCacheHits;
+    }
+
+    public long formatterCacheMisses() {
+        return formatterCacheMisses;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{timers=" + timers.values() + ", counters=" + counters + ", parseFailures=" + parseFailures
+                + ", formatterCacheHits=" + formatterCacheHits + ", formatterCacheMisses=" + formatterCacheMisses + '}';
+    }
+
+    public static final class TimerSnapshot {
+
+        private final String name;
+        private final long count;
+        private final long totalNanos;
+        private final long[] buckets;
+
+        TimerSnapshot(String name, long count, long totalNanos, long[] buckets) {
+            this.name = name;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.buckets = buckets;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * @param quantile between 0 and 1
+         * @return upper bound in nanos of the power of two bucket holding the quantile, 0 when nothing was recorded
+         */
+        public long quantileNanos(double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("quantile must be between 0 and 1: " + quantile);
+            }
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return i == 64 ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * @return calls per bucket, bucket {@code i} holds latencies below {@code 2^i} nanos and at least {@code 2^(i-1)}
+         */
+        public long[] buckets() {
+            return buckets.clone();
+        }
+
+        @Override
+        public String toString() {
+            return name + "{count=" + count + ", meanNanos=" + Math.round(meanNanos()) + ", p50Nanos<="
+                    + quantileNanos(0.5) + ", p99Nanos<=" + quantileNanos(0.99) + '}';
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.dateflow;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterator over a range of an epoch millis column that only splits on chunk boundaries, so every worker
+ * streams through whole cache sized blocks of the array.
+ */
+final class MillisSpliterator implements Spliterator.OfLong {
+
+    static final int DEFAULT_CHUNK_SIZE = 4_096;
+
+    private final long[] millis;
+    private final int chunkSize;
+    private int origin;
+    private final int fence;
+
+    MillisSpliterator(long[] millis, int origin, int fence, int chunkSize) {
+        this.millis = millis;
+        this.origin = origin;
+        this.fence = fence;
+        this.chunkSize = chunkSize;
+    }
+
+    int origin() {
+        return origin;
+    }
+
+    int fence() {
+        return fence;
+    }
+
+    @Override
+    public MillisSpliterator trySplit() {
+        int size = fence - origin;
+        if (size < 2 * chunkSize) {
+            return null;
+        }
+        int middle = origin + (size >>> 1) / chunkSize * chunkSize;
+        var prefix = new MillisSpliterator(millis, origin, middle, chunkSize);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (origin >= fence) {
+            return false;
+        }
+        action.accept(millis[origin++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        for (int i = origin; i < fence; i++) {
+            action.accept(millis[i]);
+        }
+        origin = fence;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
@@ -0,0 +1,311 @@
+package com.dateflow;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe parser trying several patterns, for feeds mixing timestamp formats.
+ * <p>
+ * A text is accepted by the first pattern that parses it completely. Patterns are screened before being attempted:
+ * the text must be long enough and contain every ASCII literal character of the pattern, otherwise the pattern can
+ * not match and is skipped. The pattern that matched last is tried first, the others in order of how often they
+ * matched, so a homogeneous stream costs a single attempt per row. A pattern moves up past the patterns ranked above
+ * it with fewer matches by adjacent swaps, without allocating. When several patterns accept the same text the
+ * one tried first wins, patterns are expected to be mutually exclusive.
+ */
+public final class MultiPatternParser {
+
+    private final DateParser[] parsers;
+    private final int[] minimumLengths;
+    private final long[] requiredLow;
+    private final long[] requiredHigh;
+    private final LongAdder[] matches;
+    private final LongAdder[] attemptsPerRow;
+    private final LongAdder screened = new LongAdder();
+    private final int[] order;
+    private final StampedLock reordering = new StampedLock();
+
+    private volatile int recent;
+
+    private MultiPatternParser(List<String> patterns, ZoneId zoneId, Locale locale) {
+        if (patterns.isEmpty()) {
+            throw new IllegalArgumentException("At least one pattern is required");
+        }
+        int size = patterns.size();
+        this.parsers = new DateParser[size];
+        this.minimumLengths = new int[size];
+        this.requiredLow = new long[size];
+        this.requiredHigh = new long[size];
+        this.matches = new LongAdder[size];
+        this.attemptsPerRow = new LongAdder[size + 1];
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) {
+            String pattern = Objects.requireNonNull(patterns.get(i), "pattern");
+            parsers[i] = DateParser.of(pattern, zoneId, locale);
+            screen(pattern, i);
+            matches[i] = new LongAdder();
+            order[i] = i;
+        }
+        for (int i = 0; i <= size; i++) {
+            attemptsPerRow[i] = new LongAdder();
+        }
+    }
+
+    public static MultiPatternParser of(List<String> patterns) {
+        return of(patterns, ZoneId.systemDefault());
+    }
+
+    public static MultiPatternParser of(List<String> patterns, ZoneId zoneId) {
+        return of(patterns, zoneId, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public static MultiPatternParser of(List<String> patterns, ZoneId zoneId, Locale locale) {
+        return new MultiPatternParser(patterns, zoneId, locale);
+    }
+
+    public List<String> patterns() {
+        List<String> patterns = new ArrayList<>(parsers.length);
+        for (DateParser parser : parsers) {
+            patterns.add(parser.pattern());
+        }
+        return Collections.unmodifiableList(patterns);
+    }
+
+    public long parse(CharSequence text) throws ParseException {
+        return parse(text, 0, text.length());
+    }
+
+    public long parse(CharSequence text, int start, int end) throws ParseException {
+        var position = new ParsePosition(start);
+        long millis = tryParse(text, start, end, position);
+        if (position.getErrorIndex() >= 0) {
+            throw new ParseException("Unparseable date: \"" + text.subSequence(start, end) + "\"", position.getErrorIndex() - start);
+        }
+        return millis;
+    }
+
+    public long tryParse(CharSequence text, ParsePosition position) {
+        return tryParse(text, 0, text.length(), position);
+    }
+
+    /**
+     * Parses like {@link DateParser#tryParse(CharSequence, int, int, ParsePosition)}, on failure the error index is
+     * the furthest one reported by the attempted patterns, or {@code start} when every pattern was screened out.
+     */
+    public long tryParse(CharSequence text, int start, int end, ParsePosition position) {
+        Objects.checkFromToIndex(start, end, text.length());
+        long low = 0;
+        long high = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 64) {
+                low |= 1L << c;
+            } else if (c < 128) {
+                high |= 1L << (c - 64);
+            }
+        }
+        int first = recent;
+        int attempts = 0;
+        int errorIndex = start;
+        long stamp = reordering.tryOptimisticRead();
+        // A swap running concurrently with the first pass may have hidden a pattern from it, the second pass then
+        // tries every pattern in declaration order.
+        for (int pass = 0; pass == 0 || !reordering.validate(stamp); pass++) {
+            for (int i = pass == 0 ? -1 : 0; i < order.length; i++) {
+                int candidate = i < 0 ? first : pass == 0 ? order[i] : i;
+                if (i >= 0 && candidate == first) {
+                    continue;
+                }
+                if (end - start < minimumLengths[candidate]
+                        || (requiredLow[candidate] & ~low) != 0
+                        || (requiredHigh[candidate] & ~high) != 0) {
+                    screened.increment();
+                    continue;
+                }
+                attempts++;
+                long millis = parsers[candidate].tryParse(text, start, end, position);
+                if (position.getErrorIndex() < 0 && position.getIndex() == end) {
+                    matched(candidate, first, attempts, pass == 0 ? i : -1);
+                    return millis;
+                }
+                errorIndex = Math.max(errorIndex, position.getErrorIndex() < 0 ? position.getIndex() : position.getErrorIndex());
+            }
+            if (pass > 0) {
+                break;
+            }
+        }
+        attemptsPerRow[attempts].increment();
+        position.setIndex(start);
+        position.setErrorIndex(errorIndex);
+        return DateParser.INVALID;
+    }
+
+    public Stats stats() {
+        Map<String, Long> matched = new LinkedHashMap<>();
+        for (int i = 0; i < parsers.length; i++) {
+            matched.merge(parsers[i].pattern(), matches[i].sum(), Long::sum);
+        }
+        long[] attempts = new long[attemptsPerRow.length];
+        for (int i = 0; i < attempts.length; i++) {
+            attempts[i] = attemptsPerRow[i].sum();
+        }
+        return new Stats(attempts, matched, screened.sum());
+    }
+
+    private void matched(int candidate, int first, int attempts, int rank) {
+        matches[candidate].increment();
+        attemptsPerRow[attempts].increment();
+        if (candidate != first) {
+            recent = candidate;
+            if (rank > 0) {
+                promote(candidate, rank);
+            }
+        }
+    }
+
+    // Only runs when the recent pattern missed, a homogeneous stream never pays for it. Swaps the pattern with the one
+    // ranked above while its match count is higher, a contended lock skips it until the pattern matches again.
+    private void promote(int candidate, int rank) {
+        long count = matches[candidate].sum();
+        if (count <= matches[order[rank - 1]].sum()) {
+            return;
+        }
+        long stamp = reordering.tryWriteLock();
+        if (stamp == 0) {
+            return;
+        }
+        try {
+            for (int i = rank; i > 0 && order[i] == candidate && count > matches[order[i - 1]].sum(); i--) {
+                order[i] = order[i - 1];
+                order[i - 1] = candidate;
+            }
+        } finally {
+            reordering.unlockWrite(stamp);
+        }
+    }
+
+    // Literal characters are matched exactly by SimpleDateFormat and every field needs at least one character.
+    private void screen(String pattern, int index) {
+        int length = 0;
+        boolean inQuote = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    require('\'', index);
+                    length++;
+                    i += 2;
+                } else {
+                    inQuote = !inQuote;
+                    i++;
+                }
+                continue;
+            }
+            if (inQuote || !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                require(c, index);
+                length++;
+                i++;
+                continue;
+            }
+            while (i < pattern.length() && pattern.charAt(i) == c) {
+                i++;
+            }
+            length++;
+        }
+        minimumLengths[index] = length;
+    }
+
+    private void require(char c, int index) {
+        if (Character.isWhitespace(c)) {
+            return;
+        }
+        if (c < 64) {
+            requiredLow[index] |= 1L << c;
+        } else if (c < 128) {
+            requiredHigh[index] |= 1L << (c - 64);
+        }
+    }
+
+    /**
+     * Point in time copy of the parser statistics.
+     */
+    public static final class Stats {
+
+        private final long[] attemptsPerRow;
+        private final Map<String, Long> matches;
+        private final long screened;
+
+        Stats(long[] attemptsPerRow, Map<String, Long> matches, long screened) {
+            this.attemptsPerRow = attemptsPerRow;
+            this.matches = Collections.unmodifiableMap(matches);
+            this.screened = screened;
+        }
+
+        public long rows() {
+            long rows = 0;
+            for (long count : attemptsPerRow) {
+                rows += count;
+            }
+            return rows;
+        }
+
+        public long failures() {
+            long matched = 0;
+            for (long count : matches.values()) {
+                matched += count;
+            }
+            return rows() - matched;
+        }
+
+        public long attempts() {
+            long attempts = 0;
+            for (int i = 0; i < attemptsPerRow.length; i++) {
+                attempts += i * attemptsPerRow[i];
+            }
+            return attempts;
+        }
+
+        public double meanAttempts() {
+            long rows = rows();
+            return rows == 0 ? 0 : (double) attempts() / rows;
+        }
+
+        /**
+         * @return rows per number of patterns attempted, index 0 counts rows every pattern was screened out for
+         */
+        public long[] attemptsPerRow() {
+            return attemptsPerRow.clone();
+        }
+
+        /**
+         * @return rows matched per pattern, in declaration order
+         */
+        public Map<String, Long> matches() {
+            return matches;
+        }
+
+        /**
+         * @return patterns skipped by screening without being attempted
+         */
+        public long screened() {
+            return screened;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{rows=" + rows() + ", failures=" + failures() + ", meanAttempts=" + meanAttempts()
+                    + ", screened=" + screened + ", matches=" + matches + '}';
+        }
+    }
+}
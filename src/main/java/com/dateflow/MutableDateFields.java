@@ -0,0 +1,53 @@
+package com.dateflow;
+
+/**
+ * Reusable holder of the wall clock fields of an instant, filled in place by
+ * {@link TransformerFlow#fields(MutableDateFields)} so per record extraction allocates nothing.
+ */
+public final class MutableDateFields {
+
+    int year;
+    int month;
+    int day;
+    int hour;
+    int minutes;
+    int seconds;
+    int nano;
+
+    public int year() {
+        return year;
+    }
+
+    public int month() {
+        return month;
+    }
+
+    public int day() {
+        return day;
+    }
+
+    public int hour() {
+        return hour;
+    }
+
+    public int minutes() {
+        return minutes;
+    }
+
+    public int seconds() {
+        return seconds;
+    }
+
+    public int nano() {
+        return nano;
+    }
+
+    public DateFields toDateFields() {
+        return new DateFields(year, month, day, hour, minutes, seconds, nano);
+    }
+
+    @Override
+    public String toString() {
+        return toDateFields().toString();
+    }
+}
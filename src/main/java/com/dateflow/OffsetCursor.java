@@ -0,0 +1,59 @@
+package com.dateflow;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * Remembers the offset window between the two transitions around the last looked up instant.
+ * Offsets stay constant inside a window, so sorted or clustered columns rarely query the zone rules.
+ * Not thread-safe, every worker of a batch uses its own cursor.
+ */
+final class OffsetCursor {
+
+    private static final ThreadLocal<OffsetCursor> PER_THREAD = ThreadLocal.withInitial(() -> new OffsetCursor(null));
+
+    private ZoneRules rules;
+    private long windowStart;
+    private long windowEnd;
+    private long windowOffset;
+
+    OffsetCursor(ZoneRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * @return the cursor of the calling thread, moved to {@code rules} when it last served other rules
+     */
+    static OffsetCursor perThread(ZoneRules rules) {
+        OffsetCursor cursor = PER_THREAD.get();
+        if (cursor.rules != rules) {
+            cursor.rules = rules;
+            cursor.windowStart = 0;
+            cursor.windowEnd = 0;
+        }
+        return cursor;
+    }
+
+    long local(long millis) {
+        if (millis < windowStart || millis >= windowEnd) {
+            moveWindow(millis);
+        }
+        return millis + windowOffset;
+    }
+
+    private void moveWindow(long millis) {
+        if (rules.isFixedOffset()) {
+            windowStart = Long.MIN_VALUE;
+            windowEnd = Long.MAX_VALUE;
+            windowOffset = rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+            return;
+        }
+        Instant instant = Instant.ofEpochMilli(millis);
+        windowOffset = rules.getOffset(instant).getTotalSeconds() * 1000L;
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusMillis(1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        windowStart = previous == null ? Long.MIN_VALUE : previous.toEpochSecond() * 1000L;
+        windowEnd = next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000L;
+    }
+}
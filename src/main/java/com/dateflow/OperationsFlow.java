@@ -2,121 +2,295 @@ package com.dateflow;
 
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.dateflow.Constants.TIME_ZONE;
+import static com.dateflow.EpochMath.SECONDS_PER_DAY;
 
 public class OperationsFlow {
 
+    static final ZoneId UTC = ZoneId.of(TIME_ZONE);
+    // Never handed out or mutated, so one instance serves every flow.
+    private static final TimeZone UTC_TIME_ZONE = TimeZone.getTimeZone(UTC);
+
+    static final int NOT_FIXED = Integer.MIN_VALUE;
+    private static final long LAST_SECOND_OF_DAY = SECONDS_PER_DAY - 1;
+
+    static final byte SHIFT_SECONDS = 0;
+    static final byte PLUS_DAYS = 1;
+    static final byte PLUS_MONTHS = 2;
+    static final byte RESET_MIDNIGHT = 3;
+    static final byte RESET_LAST_SECOND = 4;
+
+    private static final LongAdder[] OPERATION_CALLS = {
+            DateFlowMetrics.counter("OperationsFlow.shift"),
+            DateFlowMetrics.counter("OperationsFlow.plusDays"),
+            DateFlowMetrics.counter("OperationsFlow.plusMonths"),
+            DateFlowMetrics.counter("OperationsFlow.resetMidnightTime"),
+            DateFlowMetrics.counter("OperationsFlow.resetToLastMilliOfDay")
+    };
+    private static final LatencyTimer EVALUATE = DateFlowMetrics.timer("OperationsFlow.evaluate");
+
     ZoneId zoneId;
-    Instant instant;
     TimeZone timeZone;
+    long epochSecond;
+    int nano;
+
+    private byte[] operations;
+    private long[] arguments;
+    private int pending;
 
     public OperationsFlow() {
-        this.zoneId = ZoneId.of(TIME_ZONE);
-        this.timeZone = TimeZone.getTimeZone(zoneId);
-        this.instant = Instant.now().atZone(zoneId).toInstant();
+        this(DateFlow.clock().instant());
+    }
+
+    OperationsFlow(Instant instant) {
+        this(instant.getEpochSecond(), instant.getNano());
+    }
+
+    OperationsFlow(long epochSecond, int nano) {
+        this.zoneId = UTC;
+        this.timeZone = UTC_TIME_ZONE;
+        this.epochSecond = epochSecond;
+        this.nano = nano;
+    }
+
+    OperationsFlow(ZoneId zoneId, TimeZone timeZone, long epochSecond, int nano) {
+        this.zoneId = zoneId;
+        this.timeZone = timeZone;
+        this.epochSecond = epochSecond;
+        this.nano = nano;
     }
 
     public OperationsFlow resetMidnightTime() {
-        instant = instant
-                .atZone(zoneId)
-                .truncatedTo(ChronoUnit.DAYS)
-                .toInstant();
-        return this;
+        return record(RESET_MIDNIGHT, 0);
     }
 
     public OperationsFlow resetToLastMilliOfDay() {
-        instant = instant.atZone(zoneId)
-                .withHour(23)
-                .withMinute(59)
-                .withSecond(59)
-                .toInstant();
-        return this;
+        return record(RESET_LAST_SECOND, 0);
     }
 
     public OperationsFlow plusMonths(int months) {
-        instant = instant
-                .atZone(zoneId)
-                .plusMonths(months)
-                .toInstant();
-        return this;
+        return record(PLUS_MONTHS, months);
     }
 
     public OperationsFlow plusDays(int days) {
-        instant = instant
-                .atZone(zoneId)
-                .plusDays(days)
-                .toInstant();
-        return this;
+        return record(PLUS_DAYS, days);
     }
 
     public OperationsFlow plusMinutes(int minutes) {
-        instant = instant
-                .atZone(zoneId)
-                .plusMinutes(minutes)
-                .toInstant();
-        return this;
+        return record(SHIFT_SECONDS, minutes * 60L);
     }
 
     public OperationsFlow plusHours(int hours) {
-        instant = instant
-                .atZone(zoneId)
-                .plusHours(hours)
-                .toInstant();
-        return this;
+        return record(SHIFT_SECONDS, hours * 3_600L);
     }
 
     public OperationsFlow plusSeconds(int seconds) {
-        instant = instant
-                .atZone(zoneId)
-                .plusSeconds(seconds)
-                .toInstant();
-        return this;
+        return record(SHIFT_SECONDS, seconds);
     }
 
     public OperationsFlow minusSeconds(int seconds) {
-        instant = instant
-                .atZone(zoneId)
-                .minusSeconds(seconds)
-                .toInstant();
-        return this;
+        return record(SHIFT_SECONDS, -(long) seconds);
     }
 
     public OperationsFlow minusMinutes(int minutes) {
-        instant = instant
-                .atZone(zoneId)
-                .minusMinutes(minutes)
-                .toInstant();
-        return this;
+        return record(SHIFT_SECONDS, minutes * -60L);
     }
 
     public OperationsFlow minusHours(int hours) {
-        instant = instant
-                .atZone(zoneId)
-                .minusHours(hours)
-                .toInstant();
-        return this;
+        return record(SHIFT_SECONDS, hours * -3_600L);
     }
 
     public OperationsFlow minusDays(int days) {
-        instant = instant
-                .atZone(zoneId)
-                .minusDays(days)
-                .toInstant();
-        return this;
+        return record(PLUS_DAYS, -(long) days);
     }
 
     public OperationsFlow minusMonths(int months) {
-        instant = instant
-                .atZone(zoneId)
-                .minusMonths(months)
-                .toInstant();
-        return this;
+        return record(PLUS_MONTHS, -(long) months);
+    }
+
+    /**
+     * Moves to the {@code days}th working day of the calendar after the current date in the flow zone, keeping the
+     * time of day like {@link #plusDays(int)}.
+     */
+    public OperationsFlow plusBusinessDays(int days, BusinessCalendar calendar) {
+        return shiftBusinessDays(days, calendar);
+    }
+
+    public OperationsFlow minusBusinessDays(int days, BusinessCalendar calendar) {
+        return shiftBusinessDays(-(long) days, calendar);
     }
 
     public TransformerFlow as() {
-        return new TransformerFlow(zoneId, instant, timeZone);
+        evaluate();
+        return new TransformerFlow(zoneId, epochSecond, nano, timeZone);
+    }
+
+    Instant instant() {
+        evaluate();
+        return Instant.ofEpochSecond(epochSecond, nano);
+    }
+
+    void instant(Instant instant) {
+        instant(instant.getEpochSecond(), instant.getNano());
+    }
+
+    void instant(long epochSecond, int nano) {
+        pending = 0;
+        this.epochSecond = epochSecond;
+        this.nano = nano;
+    }
+
+    private OperationsFlow record(byte operation, long argument) {
+        DateFlowMetrics.increment(OPERATION_CALLS[operation]);
+        if (operations == null) {
+            operations = new byte[8];
+            arguments = new long[8];
+        } else if (pending == operations.length) {
+            operations = Arrays.copyOf(operations, pending * 2);
+            arguments = Arrays.copyOf(arguments, pending * 2);
+        }
+        operations[pending] = operation;
+        arguments[pending] = argument;
+        pending++;
+        return this;
+    }
+
+    // The calendar needs the current date, the move itself is recorded as plain days.
+    private OperationsFlow shiftBusinessDays(long days, BusinessCalendar calendar) {
+        evaluate();
+        int offset = fixedOffset(zoneId);
+        if (offset == NOT_FIXED) {
+            offset = zoneId.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        long epochDay = Math.floorDiv(epochSecond + offset, SECONDS_PER_DAY);
+        return record(PLUS_DAYS, calendar.plusBusinessDays(epochDay, days) - epochDay);
+    }
+
+    void evaluate() {
+        if (pending == 0) {
+            return;
+        }
+        long start = DateFlowMetrics.start();
+        int offset = fixedOffset(zoneId);
+        int count = offset == NOT_FIXED ? pending : collapseTruncations(operations, arguments, pending);
+        replay(operations, arguments, count, offset);
+        pending = 0;
+        EVALUATE.stop(start);
+    }
+
+    // Adjacent fixed shifts are summed, consecutive month steps share one civil decomposition.
+    // Zones with transitions replay step by step.
+    void replay(byte[] operations, long[] arguments, int count, int offset) {
+        long shift = 0;
+        for (int i = 0; i < count; i++) {
+            byte operation = operations[i];
+            if (operation == SHIFT_SECONDS) {
+                shift += arguments[i];
+                continue;
+            }
+            if (operation == PLUS_DAYS && offset != NOT_FIXED) {
+                shift += arguments[i] * SECONDS_PER_DAY;
+                continue;
+            }
+            epochSecond += shift;
+            shift = 0;
+            if (offset == NOT_FIXED) {
+                applyZoned(operation, arguments[i]);
+            } else if (operation == PLUS_MONTHS) {
+                i = applyMonths(operations, arguments, i, count, offset);
+            } else if (operation == RESET_MIDNIGHT) {
+                epochSecond -= Math.floorMod(epochSecond + offset, SECONDS_PER_DAY);
+                nano = 0;
+            } else {
+                epochSecond += LAST_SECOND_OF_DAY - Math.floorMod(epochSecond + offset, SECONDS_PER_DAY);
+            }
+        }
+        epochSecond += shift;
+    }
+
+    // Drops truncations that a following truncation makes redundant, only valid for fixed offset zones.
+    static int collapseTruncations(byte[] operations, long[] arguments, int size) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            byte operation = operations[i];
+            if (operation == RESET_LAST_SECOND && count > 0 && operations[count - 1] == RESET_LAST_SECOND) {
+                continue;
+            }
+            while (operation == RESET_MIDNIGHT && count > 0
+                    && (operations[count - 1] == RESET_MIDNIGHT || operations[count - 1] == RESET_LAST_SECOND)) {
+                count--;
+            }
+            operations[count] = operation;
+            arguments[count] = arguments[i];
+            count++;
+        }
+        return count;
+    }
+
+    private int applyMonths(byte[] operations, long[] arguments, int first, int count, int offset) {
+        long epochDay = Math.floorDiv(epochSecond + offset, SECONDS_PER_DAY);
+        long civil = EpochMath.civil(epochDay);
+        long year = EpochMath.year(civil);
+        int month = EpochMath.month(civil);
+        int day = EpochMath.day(civil);
+        int last = first;
+        do {
+            long monthCount = year * 12 + month - 1 + arguments[last];
+            year = Math.floorDiv(monthCount, 12);
+            month = Math.floorMod(monthCount, 12) + 1;
+            day = Math.min(day, EpochMath.lengthOfMonth(year, month));
+            last++;
+        } while (last < count && operations[last] == PLUS_MONTHS);
+        epochSecond += (EpochMath.epochDay(year, month, day) - epochDay) * SECONDS_PER_DAY;
+        return last - 1;
+    }
+
+    private void applyZoned(byte operation, long argument) {
+        if (operation == RESET_MIDNIGHT || operation == RESET_LAST_SECOND) {
+            DayIndex dayIndex = DayIndex.of(zoneId);
+            long boundary = operation == RESET_MIDNIGHT ? dayIndex.dayStart(epochSecond) : dayIndex.dayEnd(epochSecond);
+            if (boundary != DayIndex.UNINDEXED) {
+                epochSecond = boundary;
+                if (operation == RESET_MIDNIGHT) {
+                    nano = 0;
+                }
+                return;
+            }
+        }
+        var event = new ZoneResolveEvent();
+        event.begin();
+        ZonedDateTime zoned = Instant.ofEpochSecond(epochSecond, nano).atZone(zoneId);
+        switch (operation) {
+            case PLUS_DAYS:
+                zoned = zoned.plusDays(argument);
+                break;
+            case PLUS_MONTHS:
+                zoned = zoned.plusMonths(argument);
+                break;
+            case RESET_MIDNIGHT:
+                zoned = zoned.truncatedTo(ChronoUnit.DAYS);
+                break;
+            default:
+                zoned = zoned
+                        .withHour(23)
+                        .withMinute(59)
+                        .withSecond(59);
+        }
+        epochSecond = zoned.toEpochSecond();
+        nano = zoned.getNano();
+        event.report(zoneId, ZoneResolveEvent.RULES, 1);
+    }
+
+    // Time based units never depend on the zone, days, months and truncation only do when the zone has transitions.
+    static int fixedOffset(ZoneId zoneId) {
+        ZoneRules rules = zoneId.getRules();
+        return rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH).getTotalSeconds() : NOT_FIXED;
     }
 }
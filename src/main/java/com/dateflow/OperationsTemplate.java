@@ -0,0 +1,98 @@
+package com.dateflow;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+
+import static com.dateflow.Constants.TIME_ZONE;
+import static com.dateflow.OperationsFlow.PLUS_DAYS;
+import static com.dateflow.OperationsFlow.PLUS_MONTHS;
+import static com.dateflow.OperationsFlow.RESET_LAST_SECOND;
+import static com.dateflow.OperationsFlow.RESET_MIDNIGHT;
+import static com.dateflow.OperationsFlow.SHIFT_SECONDS;
+
+/**
+ * Immutable counterpart of {@link OperationsFlow}, every operation returns a new template.
+ */
+public final class OperationsTemplate {
+
+    private final DateParser parser;
+    private final byte[] operations;
+    private final long[] arguments;
+
+    OperationsTemplate(DateParser parser) {
+        this(parser, new byte[0], new long[0]);
+    }
+
+    private OperationsTemplate(DateParser parser, byte[] operations, long[] arguments) {
+        this.parser = parser;
+        this.operations = operations;
+        this.arguments = arguments;
+    }
+
+    public OperationsTemplate resetMidnightTime() {
+        return with(RESET_MIDNIGHT, 0);
+    }
+
+    public OperationsTemplate resetToLastMilliOfDay() {
+        return with(RESET_LAST_SECOND, 0);
+    }
+
+    public OperationsTemplate plusMonths(int months) {
+        return with(PLUS_MONTHS, months);
+    }
+
+    public OperationsTemplate plusDays(int days) {
+        return with(PLUS_DAYS, days);
+    }
+
+    public OperationsTemplate plusMinutes(int minutes) {
+        return with(SHIFT_SECONDS, minutes * 60L);
+    }
+
+    public OperationsTemplate plusHours(int hours) {
+        return with(SHIFT_SECONDS, hours * 3_600L);
+    }
+
+    public OperationsTemplate plusSeconds(int seconds) {
+        return with(SHIFT_SECONDS, seconds);
+    }
+
+    public OperationsTemplate minusSeconds(int seconds) {
+        return with(SHIFT_SECONDS, -(long) seconds);
+    }
+
+    public OperationsTemplate minusMinutes(int minutes) {
+        return with(SHIFT_SECONDS, minutes * -60L);
+    }
+
+    public OperationsTemplate minusHours(int hours) {
+        return with(SHIFT_SECONDS, hours * -3_600L);
+    }
+
+    public OperationsTemplate minusDays(int days) {
+        return with(PLUS_DAYS, -(long) days);
+    }
+
+    public OperationsTemplate minusMonths(int months) {
+        return with(PLUS_MONTHS, -(long) months);
+    }
+
+    public TransformerTemplate as() {
+        ZoneId zoneId = ZoneId.of(TIME_ZONE);
+        byte[] planned = operations.clone();
+        long[] plannedArguments = arguments.clone();
+        int count = OperationsFlow.fixedOffset(zoneId) == OperationsFlow.NOT_FIXED
+                ? planned.length
+                : OperationsFlow.collapseTruncations(planned, plannedArguments, planned.length);
+        return new TransformerTemplate(parser, Arrays.copyOf(planned, count), Arrays.copyOf(plannedArguments, count),
+                zoneId, zoneId);
+    }
+
+    private OperationsTemplate with(byte operation, long argument) {
+        byte[] nextOperations = Arrays.copyOf(operations, operations.length + 1);
+        long[] nextArguments = Arrays.copyOf(arguments, arguments.length + 1);
+        nextOperations[operations.length] = operation;
+        nextArguments[arguments.length] = argument;
+        return new OperationsTemplate(parser, nextOperations, nextArguments);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dateflow;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.time.ZoneId;
+
+/**
+ * Flight recorder event of one {@link DateParser} parse, committed only while a recording enables it
+ * and the parse took longer than the threshold.
+ */
+@Name("dateflow.Parse")
+@Label("DateFlow Parse")
+@Category("DateFlow")
+@Description("Timestamp parsed by a DateParser")
+@StackTrace
+@Threshold("1 ms")
+final class ParseEvent extends Event {
+
+    static final String COMPILED = "compiled";
+    static final String FALLBACK = "fallback";
+    static final String FAILED = "failed";
+
+    @Label("Pattern")
+    String pattern;
+
+    @Label("Zone")
+    String zone;
+
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Outcome")
+    @Description("compiled, fallback to SimpleDateFormat or failed")
+    String outcome;
+
+    void report(String pattern, ZoneId zoneId, int inputLength, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.pattern = pattern;
+            this.zone = zoneId.getId();
+            this.inputLength = inputLength;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.dateflow;
+
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Objects;
+
+final class PatternKey {
+
+    final String pattern;
+    final ZoneId zoneId;
+    final Locale locale;
+    private final int hash;
+
+    PatternKey(String pattern, ZoneId zoneId, Locale locale) {
+        this.pattern = Objects.requireNonNull(pattern, "pattern");
+        this.zoneId = Objects.requireNonNull(zoneId, "zoneId");
+        this.locale = Objects.requireNonNull(locale, "locale");
+        this.hash = Objects.hash(pattern, zoneId, locale);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PatternKey)) {
+            return false;
+        }
+        PatternKey key = (PatternKey) other;
+        return pattern.equals(key.pattern)
+                && zoneId.equals(key.zoneId)
+                && locale.equals(key.locale);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,185 @@
+package com.dateflow;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAmount;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+import static com.dateflow.EpochMath.MILLIS_PER_DAY;
+import static com.dateflow.EpochMath.NANOS_PER_MILLI;
+import static com.dateflow.EpochMath.SECONDS_PER_DAY;
+
+/**
+ * Spliterator over the epoch millis {@code from + i * step} before {@code to}, computed from the index alone so any
+ * sub range can be split off without walking it.
+ * <p>
+ * A {@link Duration} step is added in millis. A {@link Period} step is added to the local date of {@code from} in the
+ * zone, keeping its time of day and offset where still valid, exactly like {@link ZonedDateTime#plus(TemporalAmount)}
+ * with {@code step.multipliedBy(i)}. Offsets come from the {@link ZoneTable}, the zone rules are only consulted near
+ * transitions.
+ */
+final class RangeSpliterator implements Spliterator.OfLong {
+
+    private final long startMillis;
+    private final long stepMillis;
+    private final CalendarStep calendar;
+    private long origin;
+    private final long fence;
+
+    private RangeSpliterator(long startMillis, long stepMillis, CalendarStep calendar, long origin, long fence) {
+        this.startMillis = startMillis;
+        this.stepMillis = stepMillis;
+        this.calendar = calendar;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    static RangeSpliterator of(Instant from, Instant to, TemporalAmount step, ZoneId zoneId) {
+        long startMillis = from.toEpochMilli();
+        long endMillis = to.toEpochMilli();
+        if (step instanceof Duration) {
+            var duration = (Duration) step;
+            if (duration.isNegative() || duration.isZero() || duration.getNano() % NANOS_PER_MILLI != 0) {
+                throw new IllegalArgumentException("Step must be a positive number of milliseconds: " + step);
+            }
+            long stepMillis = duration.toMillis();
+            long size = endMillis <= startMillis ? 0 : (endMillis - startMillis - 1) / stepMillis + 1;
+            return new RangeSpliterator(startMillis, stepMillis, null, 0, size);
+        }
+        if (step instanceof Period) {
+            var period = (Period) step;
+            if (period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Step must be a positive period: " + step);
+            }
+            var calendar = new CalendarStep(startMillis, period, zoneId);
+            return new RangeSpliterator(startMillis, 0, calendar, 0, calendar.size(endMillis));
+        }
+        throw new IllegalArgumentException("Step must be a Duration or a Period: " + step);
+    }
+
+    @Override
+    public RangeSpliterator trySplit() {
+        long size = fence - origin;
+        if (size < 2) {
+            return null;
+        }
+        long middle = origin + (size >>> 1);
+        var prefix = new RangeSpliterator(startMillis, stepMillis, calendar, origin, middle);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (origin >= fence) {
+            return false;
+        }
+        action.accept(millis(origin++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        if (calendar == null) {
+            long millis = startMillis + origin * stepMillis;
+            for (long i = origin; i < fence; i++, millis += stepMillis) {
+                action.accept(millis);
+            }
+        } else {
+            for (long i = origin; i < fence; i++) {
+                action.accept(calendar.millis(i));
+            }
+        }
+        origin = fence;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        return null;
+    }
+
+    private long millis(long index) {
+        return calendar == null ? startMillis + index * stepMillis : calendar.millis(index);
+    }
+
+    private static final class CalendarStep {
+
+        private final ZoneId zoneId;
+        private final ZoneTable zoneTable;
+        private final long startEpochDay;
+        private final long millisOfDay;
+        private final int startOffset;
+        private final long months;
+        private final int days;
+
+        CalendarStep(long startMillis, Period period, ZoneId zoneId) {
+            this.zoneId = zoneId;
+            this.zoneTable = ZoneTable.of(zoneId);
+            this.startOffset = zoneTable.offsetSeconds(Math.floorDiv(startMillis, 1000));
+            long localMillis = startMillis + startOffset * 1000L;
+            this.startEpochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+            this.millisOfDay = Math.floorMod(localMillis, MILLIS_PER_DAY);
+            this.months = period.toTotalMonths();
+            this.days = period.getDays();
+        }
+
+        // Values never decrease with the index, so the size is found by doubling then bisecting.
+        long size(long endMillis) {
+            if (millis(0) >= endMillis) {
+                return 0;
+            }
+            long high = 1;
+            while (millis(high) < endMillis) {
+                high <<= 1;
+            }
+            long low = high >>> 1;
+            while (high - low > 1) {
+                long middle = (low + high) >>> 1;
+                if (millis(middle) < endMillis) {
+                    low = middle;
+                } else {
+                    high = middle;
+                }
+            }
+            return high;
+        }
+
+        long millis(long index) {
+            long epochDay = months == 0 ? startEpochDay : EpochMath.plusMonths(startEpochDay, months * index);
+            long localSecond = (epochDay + days * index) * SECONDS_PER_DAY + millisOfDay / 1000;
+            long millisOfSecond = millisOfDay % 1000;
+            int offset = zoneTable.offsetSeconds(localSecond - startOffset);
+            if (offset == startOffset) {
+                return (localSecond - startOffset) * 1000 + millisOfSecond;
+            }
+            long epochSecond = localSecond - offset;
+            if (zoneTable.offsetSeconds(epochSecond) == offset
+                    && zoneTable.offsetSeconds(epochSecond - SECONDS_PER_DAY) == offset
+                    && zoneTable.offsetSeconds(epochSecond + SECONDS_PER_DAY) == offset) {
+                return epochSecond * 1000 + millisOfSecond;
+            }
+            // Gap or overlap, resolved like ZonedDateTime.plus.
+            var local = LocalDateTime.ofEpochSecond(localSecond, (int) millisOfSecond * NANOS_PER_MILLI, ZoneOffset.UTC);
+            return ZonedDateTime.ofLocal(local, zoneId, ZoneOffset.ofTotalSeconds(startOffset))
+                    .toInstant()
+                    .toEpochMilli();
+        }
+    }
+}
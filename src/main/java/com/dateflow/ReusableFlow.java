@@ -0,0 +1,91 @@
+package com.dateflow;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static com.dateflow.EpochMath.NANOS_PER_MILLI;
+
+/**
+ * {@link OperationsFlow} that is re-seeded with {@code reset} instead of created, for conversion loops that should
+ * not allocate.
+ * <p>
+ * Operations reuse the recorded operation arrays and {@link #as()} returns the same {@link TransformerFlow} on every
+ * call, with its output zone back to UTC. After warm up a loop exporting primitives, such as
+ * {@link TransformerFlow#day()}, {@link TransformerFlow#fields(MutableDateFields)} or
+ * {@link TransformerFlow#formatTo(String, byte[], int)}, produces no garbage. A reusable flow is not thread-safe and
+ * its transformer is only valid until the next reset, keep one per thread with {@link #perThread()}.
+ */
+public final class ReusableFlow extends OperationsFlow {
+
+    private static final ThreadLocal<ReusableFlow> PER_THREAD = ThreadLocal.withInitial(ReusableFlow::new);
+
+    private final DateParser parser;
+    private final ParsePosition position = new ParsePosition(0);
+    private final TransformerFlow transformer;
+
+    public ReusableFlow() {
+        this(null);
+    }
+
+    private ReusableFlow(DateParser parser) {
+        super(0, 0);
+        this.parser = parser;
+        this.transformer = new TransformerFlow(zoneId, 0, 0, timeZone);
+    }
+
+    /**
+     * Flow accepting {@link #reset(CharSequence)} for dates in {@code dateFormat}.
+     */
+    public static ReusableFlow of(String dateFormat) {
+        return of(dateFormat, ZoneId.systemDefault());
+    }
+
+    public static ReusableFlow of(String dateFormat, ZoneId zoneId) {
+        return new ReusableFlow(DateParser.of(dateFormat, zoneId));
+    }
+
+    /**
+     * Flow of the calling thread, without a date format.
+     */
+    public static ReusableFlow perThread() {
+        return PER_THREAD.get();
+    }
+
+    /**
+     * Drops pending operations and starts over from {@code millis}.
+     */
+    public ReusableFlow reset(long millis) {
+        instant(Math.floorDiv(millis, 1000), Math.floorMod(millis, 1000) * NANOS_PER_MILLI);
+        return this;
+    }
+
+    public ReusableFlow reset(Instant instant) {
+        instant(instant);
+        return this;
+    }
+
+    public ReusableFlow reset(CharSequence date) throws ParseException {
+        return reset(date, 0, date.length());
+    }
+
+    public ReusableFlow reset(CharSequence date, int start, int end) throws ParseException {
+        if (parser == null) {
+            throw new IllegalStateException("Flow has no date format, use ReusableFlow.of(String dateFormat)");
+        }
+        long millis = parser.tryParse(date, start, end, position);
+        if (position.getErrorIndex() >= 0) {
+            throw new ParseException("Unparseable date: \"" + date.subSequence(start, end) + "\"", position.getErrorIndex() - start);
+        }
+        return reset(millis);
+    }
+
+    @Override
+    public TransformerFlow as() {
+        evaluate();
+        transformer.instant(epochSecond, nano);
+        transformer.outputZoneId = UTC;
+        return transformer;
+    }
+}
@@ -1,30 +1,56 @@
 package com.dateflow;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Date;
+import java.util.Objects;
 import java.util.TimeZone;
 
 import static com.dateflow.Constants.DATE_FORMAT;
-import static com.dateflow.Constants.TIME_ZONE;
 
 public class TransformerFlow {
 
+    // java.util.TimeZone ignores transitions before 1900 that ZoneRules keeps
+    private static final long MIN_RULES_MILLIS = -2_208_902_400_000L;
+    // and repeats its last rule after 2037 where ZoneRules keeps listed transitions, a day early for any wall offset
+    private static final long MAX_RULES_MILLIS = 2_145_830_400_000L;
+
+    private static final LatencyTimer DATE = DateFlowMetrics.timer("TransformerFlow.date");
+    private static final LatencyTimer LOCAL_DATE = DateFlowMetrics.timer("TransformerFlow.localDate");
+    private static final LatencyTimer LOCAL_DATE_TIME = DateFlowMetrics.timer("TransformerFlow.localDateTime");
+    private static final LatencyTimer STRING = DateFlowMetrics.timer("TransformerFlow.string");
+    private static final LatencyTimer FORMAT_TO = DateFlowMetrics.timer("TransformerFlow.formatTo");
+    private static final LatencyTimer FIELD = DateFlowMetrics.timer("TransformerFlow.field");
+    private static final LatencyTimer FIELDS = DateFlowMetrics.timer("TransformerFlow.fields");
+
     ZoneId zoneId;
-    Instant instant;
+    long epochSecond;
+    int nano;
     TimeZone timeZone;
     ZoneId outputZoneId;
 
+    private ZoneTable zoneTable;
+
     public TransformerFlow(ZoneId zoneId, Instant instant, TimeZone timeZone) {
+        this(zoneId, instant.getEpochSecond(), instant.getNano(), timeZone);
+    }
+
+    TransformerFlow(ZoneId zoneId, long epochSecond, int nano, TimeZone timeZone) {
         this.zoneId = zoneId;
-        this.instant = instant;
+        this.epochSecond = epochSecond;
+        this.nano = nano;
         this.timeZone = timeZone;
-        this.outputZoneId = ZoneId.of(TIME_ZONE);
+        this.outputZoneId = OperationsFlow.UTC;
     }
 
     public TransformerFlow zoneId(ZoneId newZoneId) {
@@ -33,57 +59,250 @@ public class TransformerFlow {
     }
 
     public Date date() throws ParseException {
+        long start = DateFlowMetrics.start();
+        try {
+            Instant instant = instant();
+            long millis = instant.toEpochMilli();
+            if (millis < MIN_RULES_MILLIS || millis >= MAX_RULES_MILLIS) {
+                return roundTripDate();
+            }
+            long wall = millis + outputZoneId.getRules().getOffset(instant).getTotalSeconds() * 1000L;
+            return new Date(wall - wallOffsetSeconds(ZoneId.systemDefault().getRules(), wall) * 1000L);
+        } finally {
+            DATE.stop(start);
+        }
+    }
+
+    // Resolves the wall time the way GregorianCalendar does: gaps use the offset before, overlaps the offset after.
+    private static int wallOffsetSeconds(ZoneRules rules, long wall) {
+        var local = LocalDateTime.ofEpochSecond(Math.floorDiv(wall, 1000), 0, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = rules.getTransition(local);
+        if (transition == null) {
+            return rules.getOffset(local).getTotalSeconds();
+        }
+        return transition.isGap()
+                ? transition.getOffsetBefore().getTotalSeconds()
+                : transition.getOffsetAfter().getTotalSeconds();
+    }
+
+    private Date roundTripDate() throws ParseException {
         SimpleDateFormat formatter = new SimpleDateFormat(DATE_FORMAT);
 
         SimpleDateFormat timeZoneFormatter = new SimpleDateFormat(DATE_FORMAT);
         TimeZone tzInAmerica = TimeZone.getTimeZone(outputZoneId);
         timeZoneFormatter.setTimeZone(tzInAmerica);
 
-        Date result = Date.from(instant);
+        Date result = Date.from(instant());
         String stringDate = timeZoneFormatter.format(result);
         return formatter.parse(stringDate);
     }
 
     public LocalDate localDate() {
-        return instant.atZone(outputZoneId).toLocalDate();
+        long start = DateFlowMetrics.start();
+        try {
+            return zoneTable().localDate(epochSecond);
+        } finally {
+            LOCAL_DATE.stop(start);
+        }
     }
 
     public LocalDateTime localDateTime() {
-        return LocalDateTime.ofInstant(instant, outputZoneId);
+        long start = DateFlowMetrics.start();
+        try {
+            return zoneTable().localDateTime(epochSecond, nano);
+        } finally {
+            LOCAL_DATE_TIME.stop(start);
+        }
     }
 
     public String string(String format) {
-        DateTimeFormatter formatter = DateTimeFormatter
-                .ofPattern(format)
-                .withZone(outputZoneId);
-        return formatter.format(instant);
+        long start = DateFlowMetrics.start();
+        var event = new FormatEvent();
+        event.begin();
+        try {
+            return format(format);
+        } finally {
+            STRING.stop(start);
+            event.report(format, outputZoneId, FormatEvent.FORMATTER);
+        }
+    }
+
+    private String format(String format) {
+        return FormatterCache
+                .shared()
+                .formatter(format, outputZoneId)
+                .format(instant());
+    }
+
+    public Appendable formatTo(String format, Appendable target) throws IOException {
+        long start = DateFlowMetrics.start();
+        var event = new FormatEvent();
+        event.begin();
+        String outcome = FormatEvent.FORMATTER;
+        try {
+            FixedWidthFormat fixedWidth = FixedWidthFormat.of(format);
+            long local = zoneTable().localEpochSecond(epochSecond);
+            if (fixedWidth != null && FixedWidthFormat.supports(local)) {
+                outcome = FormatEvent.FIXED_WIDTH;
+                fixedWidth.write(local, nano, target);
+                return target;
+            }
+            return target.append(format(format));
+        } finally {
+            FORMAT_TO.stop(start);
+            event.report(format, outputZoneId, outcome);
+        }
+    }
+
+    public StringBuilder formatTo(String format, StringBuilder target) {
+        long start = DateFlowMetrics.start();
+        var event = new FormatEvent();
+        event.begin();
+        String outcome = FormatEvent.FORMATTER;
+        try {
+            FixedWidthFormat fixedWidth = FixedWidthFormat.of(format);
+            long local = zoneTable().localEpochSecond(epochSecond);
+            if (fixedWidth != null && FixedWidthFormat.supports(local)) {
+                outcome = FormatEvent.FIXED_WIDTH;
+                fixedWidth.write(local, nano, target);
+                return target;
+            }
+            FormatterCache
+                    .shared()
+                    .formatter(format, outputZoneId)
+                    .formatTo(instant(), target);
+            return target;
+        } finally {
+            FORMAT_TO.stop(start);
+            event.report(format, outputZoneId, outcome);
+        }
+    }
+
+    public ByteBuffer formatTo(String format, ByteBuffer target) {
+        long start = DateFlowMetrics.start();
+        var event = new FormatEvent();
+        event.begin();
+        String outcome = FormatEvent.FORMATTER;
+        try {
+            FixedWidthFormat fixedWidth = FixedWidthFormat.of(format);
+            long local = zoneTable().localEpochSecond(epochSecond);
+            if (fixedWidth != null && FixedWidthFormat.supports(local)) {
+                outcome = FormatEvent.FIXED_WIDTH;
+                fixedWidth.write(local, nano, target);
+                return target;
+            }
+            return target.put(format(format).getBytes(StandardCharsets.UTF_8));
+        } finally {
+            FORMAT_TO.stop(start);
+            event.report(format, outputZoneId, outcome);
+        }
+    }
+
+    /**
+     * @return number of bytes written at {@code offset}
+     */
+    public int formatTo(String format, byte[] target, int offset) {
+        long start = DateFlowMetrics.start();
+        var event = new FormatEvent();
+        event.begin();
+        String outcome = FormatEvent.FORMATTER;
+        try {
+            FixedWidthFormat fixedWidth = FixedWidthFormat.of(format);
+            long local = zoneTable().localEpochSecond(epochSecond);
+            if (fixedWidth != null && FixedWidthFormat.supports(local)) {
+                outcome = FormatEvent.FIXED_WIDTH;
+                Objects.checkFromIndexSize(offset, fixedWidth.width(), target.length);
+                return fixedWidth.write(local, nano, target, offset);
+            }
+            byte[] bytes = format(format).getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(bytes, 0, target, offset, bytes.length);
+            return bytes.length;
+        } finally {
+            FORMAT_TO.stop(start);
+            event.report(format, outputZoneId, outcome);
+        }
     }
 
     public Instant instant() {
-        return instant;
+        return Instant.ofEpochSecond(epochSecond, nano);
+    }
+
+    void instant(long epochSecond, int nano) {
+        this.epochSecond = epochSecond;
+        this.nano = nano;
     }
 
     public int day() {
-        return instant.atZone(outputZoneId).getDayOfMonth();
+        long start = DateFlowMetrics.start();
+        try {
+            return zoneTable().day(epochSecond);
+        } finally {
+            FIELD.stop(start);
+        }
     }
 
     public int month() {
-        return instant.atZone(outputZoneId).getMonthValue();
+        long start = DateFlowMetrics.start();
+        try {
+            return zoneTable().month(epochSecond);
+        } finally {
+            FIELD.stop(start);
+        }
     }
 
     public int year() {
-        return instant.atZone(outputZoneId).getYear();
+        long start = DateFlowMetrics.start();
+        try {
+            return zoneTable().year(epochSecond);
+        } finally {
+            FIELD.stop(start);
+        }
     }
 
     public int hour() {
-        return instant.atZone(outputZoneId).getHour();
+        long start = DateFlowMetrics.start();
+        try {
+            return zoneTable().hour(epochSecond);
+        } finally {
+            FIELD.stop(start);
+        }
     }
 
     public int minutes() {
-        return instant.atZone(outputZoneId).getMinute();
+        long start = DateFlowMetrics.start();
+        try {
+            return zoneTable().minutes(epochSecond);
+        } finally {
+            FIELD.stop(start);
+        }
     }
 
     public int seconds() {
-        return instant.atZone(outputZoneId).getSecond();
+        long start = DateFlowMetrics.start();
+        try {
+            return zoneTable().seconds(epochSecond);
+        } finally {
+            FIELD.stop(start);
+        }
+    }
+
+    public DateFields fields() {
+        return fields(new MutableDateFields()).toDateFields();
+    }
+
+    public MutableDateFields fields(MutableDateFields target) {
+        long start = DateFlowMetrics.start();
+        try {
+            return zoneTable().fields(epochSecond, nano, target);
+        } finally {
+            FIELDS.stop(start);
+        }
+    }
+
+    private ZoneTable zoneTable() {
+        if (zoneTable == null || zoneTable.zoneId() != outputZoneId) {
+            zoneTable = ZoneTable.of(outputZoneId);
+        }
+        return zoneTable;
     }
 }
@@ -0,0 +1,96 @@
+package com.dateflow;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * Immutable counterpart of {@link TransformerFlow}, each export compiles the template into a {@link FlowTemplate}.
+ */
+public final class TransformerTemplate {
+
+    private final DateParser parser;
+    private final byte[] operations;
+    private final long[] arguments;
+    private final ZoneId zoneId;
+    private final ZoneId outputZoneId;
+
+    TransformerTemplate(DateParser parser, byte[] operations, long[] arguments, ZoneId zoneId, ZoneId outputZoneId) {
+        this.parser = parser;
+        this.operations = operations;
+        this.arguments = arguments;
+        this.zoneId = zoneId;
+        this.outputZoneId = outputZoneId;
+    }
+
+    public TransformerTemplate zoneId(ZoneId newZoneId) {
+        return new TransformerTemplate(parser, operations, arguments, zoneId, newZoneId);
+    }
+
+    public FlowTemplate<Instant> instant() {
+        return compile(Function.identity());
+    }
+
+    public FlowTemplate<LocalDate> localDate() {
+        ZoneTable table = ZoneTable.of(outputZoneId);
+        return compile(it -> table.localDate(it.getEpochSecond()));
+    }
+
+    public FlowTemplate<LocalDateTime> localDateTime() {
+        ZoneTable table = ZoneTable.of(outputZoneId);
+        return compile(it -> table.localDateTime(it.getEpochSecond(), it.getNano()));
+    }
+
+    public FlowTemplate<String> string(String format) {
+        DateTimeFormatter formatter = FormatterCache
+                .shared()
+                .formatter(format, outputZoneId);
+        return compile(formatter::format);
+    }
+
+    public FlowTemplate<Integer> day() {
+        ZoneTable table = ZoneTable.of(outputZoneId);
+        return compile(it -> table.day(it.getEpochSecond()));
+    }
+
+    public FlowTemplate<Integer> month() {
+        ZoneTable table = ZoneTable.of(outputZoneId);
+        return compile(it -> table.month(it.getEpochSecond()));
+    }
+
+    public FlowTemplate<Integer> year() {
+        ZoneTable table = ZoneTable.of(outputZoneId);
+        return compile(it -> table.year(it.getEpochSecond()));
+    }
+
+    public FlowTemplate<Integer> hour() {
+        ZoneTable table = ZoneTable.of(outputZoneId);
+        return compile(it -> table.hour(it.getEpochSecond()));
+    }
+
+    public FlowTemplate<Integer> minutes() {
+        ZoneTable table = ZoneTable.of(outputZoneId);
+        return compile(it -> table.minutes(it.getEpochSecond()));
+    }
+
+    public FlowTemplate<Integer> seconds() {
+        ZoneTable table = ZoneTable.of(outputZoneId);
+        return compile(it -> table.seconds(it.getEpochSecond()));
+    }
+
+    public FlowTemplate<DateFields> fields() {
+        ZoneTable table = ZoneTable.of(outputZoneId);
+        return compile(it -> table.fields(it.getEpochSecond(), it.getNano(), new MutableDateFields()).toDateFields());
+    }
+
+    ZoneId outputZoneId() {
+        return outputZoneId;
+    }
+
+    private <T> FlowTemplate<T> compile(Function<Instant, T> exporter) {
+        return new FlowTemplate<>(parser, operations, arguments, zoneId, exporter);
+    }
+}
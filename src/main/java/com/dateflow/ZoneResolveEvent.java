@@ -0,0 +1,49 @@
+package com.dateflow;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.time.ZoneId;
+
+/**
+ * Flight recorder event of zone resolution work: a {@link ZoneTable} or {@link DayIndex} being compiled,
+ * or a zoned operation falling back to {@code ZonedDateTime}.
+ */
+@Name("dateflow.ZoneResolve")
+@Label("DateFlow Zone Resolve")
+@Category("DateFlow")
+@Description("Zone offsets compiled or resolved from the zone rules")
+@StackTrace
+@Threshold("1 ms")
+final class ZoneResolveEvent extends Event {
+
+    static final String ZONE_TABLE = "zoneTable";
+    static final String DAY_INDEX = "dayIndex";
+    static final String RULES = "rules";
+
+    @Label("Zone")
+    String zone;
+
+    @Label("Source")
+    @Description("zoneTable or dayIndex compiled, or rules for a ZonedDateTime fallback")
+    String source;
+
+    @Label("Entries")
+    @Description("Transitions of a zone table, indexed days of a day index, 1 for a fallback")
+    int entries;
+
+    void report(ZoneId zoneId, String source, int entries) {
+        end();
+        if (shouldCommit()) {
+            this.zone = zoneId.getId();
+            this.source = source;
+            this.entries = entries;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.dateflow;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.dateflow.EpochMath.SECONDS_PER_DAY;
+
+/**
+ * Offset transitions of a zone compiled into sorted primitive arrays for a range of years.
+ * Instants inside the range resolve their offset with a binary search, instants outside fall back to {@link ZoneRules}.
+ * Tables built for the default range are shared per zone, the range can be changed with the
+ * {@code dateflow.zoneTable.firstYear} and {@code dateflow.zoneTable.lastYear} system properties.
+ */
+public final class ZoneTable {
+
+    public static final int DEFAULT_FIRST_YEAR = Integer.getInteger("dateflow.zoneTable.firstYear", 1900);
+    public static final int DEFAULT_LAST_YEAR = Integer.getInteger("dateflow.zoneTable.lastYear", 2100);
+
+    private static final ConcurrentHashMap<ZoneId, ZoneTable> SHARED = new ConcurrentHashMap<>();
+
+    private final ZoneId zoneId;
+    private final ZoneRules rules;
+    private final long start;
+    private final long end;
+    private final long[] transitions;
+    private final int[] offsets;
+
+    private ZoneTable(ZoneId zoneId, int firstYear, int lastYear) {
+        if (firstYear > lastYear) {
+            throw new IllegalArgumentException("firstYear " + firstYear + " is after lastYear " + lastYear);
+        }
+        this.zoneId = zoneId;
+        this.rules = zoneId.getRules();
+        if (rules.isFixedOffset()) {
+            this.start = Long.MIN_VALUE;
+            this.end = Long.MAX_VALUE;
+            this.transitions = new long[0];
+            this.offsets = new int[]{rules.getOffset(Instant.EPOCH).getTotalSeconds()};
+            return;
+        }
+        this.start = EpochMath.epochDay(firstYear, 1, 1) * SECONDS_PER_DAY;
+        this.end = EpochMath.epochDay(lastYear + 1L, 1, 1) * SECONDS_PER_DAY;
+        long[] epochs = new long[16];
+        int[] values = new int[17];
+        values[0] = rules.getOffset(Instant.ofEpochSecond(start)).getTotalSeconds();
+        int count = 0;
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(start));
+        while (transition != null && transition.toEpochSecond() < end) {
+            if (count == epochs.length) {
+                epochs = Arrays.copyOf(epochs, count * 2);
+                values = Arrays.copyOf(values, count * 2 + 1);
+            }
+            epochs[count] = transition.toEpochSecond();
+            values[++count] = transition.getOffsetAfter().getTotalSeconds();
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        this.transitions = Arrays.copyOf(epochs, count);
+        this.offsets = Arrays.copyOf(values, count + 1);
+    }
+
+    public static ZoneTable of(ZoneId zoneId) {
+        return SHARED.computeIfAbsent(zoneId, it -> build(it, DEFAULT_FIRST_YEAR, DEFAULT_LAST_YEAR));
+    }
+
+    public static ZoneTable of(ZoneId zoneId, int firstYear, int lastYear) {
+        return build(zoneId, firstYear, lastYear);
+    }
+
+    private static ZoneTable build(ZoneId zoneId, int firstYear, int lastYear) {
+        var event = new ZoneResolveEvent();
+        event.begin();
+        var table = new ZoneTable(zoneId, firstYear, lastYear);
+        event.report(zoneId, ZoneResolveEvent.ZONE_TABLE, table.transitionCount());
+        return table;
+    }
+
+    public ZoneId zoneId() {
+        return zoneId;
+    }
+
+    public int transitionCount() {
+        return transitions.length;
+    }
+
+    public int offsetSeconds(long epochSecond) {
+        if (epochSecond < start || epochSecond >= end) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        int index = Arrays.binarySearch(transitions, epochSecond);
+        return offsets[index >= 0 ? index + 1 : -index - 1];
+    }
+
+    public long localEpochSecond(long epochSecond) {
+        return epochSecond + offsetSeconds(epochSecond);
+    }
+
+    public int year(long epochSecond) {
+        return (int) EpochMath.year(civil(epochSecond));
+    }
+
+    public int month(long epochSecond) {
+        return EpochMath.month(civil(epochSecond));
+    }
+
+    public int day(long epochSecond) {
+        return EpochMath.day(civil(epochSecond));
+    }
+
+    public int hour(long epochSecond) {
+        return (int) (Math.floorMod(localEpochSecond(epochSecond), SECONDS_PER_DAY) / 3_600);
+    }
+
+    public int minutes(long epochSecond) {
+        return (int) (Math.floorMod(localEpochSecond(epochSecond), 3_600L) / 60);
+    }
+
+    public int seconds(long epochSecond) {
+        return (int) Math.floorMod(localEpochSecond(epochSecond), 60L);
+    }
+
+    public LocalDate localDate(long epochSecond) {
+        return LocalDate.ofEpochDay(Math.floorDiv(localEpochSecond(epochSecond), SECONDS_PER_DAY));
+    }
+
+    public LocalDateTime localDateTime(long epochSecond, int nano) {
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.ofTotalSeconds(offsetSeconds(epochSecond)));
+    }
+
+    public MutableDateFields fields(long epochSecond, int nano, MutableDateFields target) {
+        long local = localEpochSecond(epochSecond);
+        long civil = EpochMath.civil(Math.floorDiv(local, SECONDS_PER_DAY));
+        int secondOfDay = (int) Math.floorMod(local, SECONDS_PER_DAY);
+        target.year = (int) EpochMath.year(civil);
+        target.month = EpochMath.month(civil);
+        target.day = EpochMath.day(civil);
+        target.hour = secondOfDay / 3_600;
+        target.minutes = secondOfDay / 60 % 60;
+        target.seconds = secondOfDay % 60;
+        target.nano = nano;
+        return target;
+    }
+
+    private long civil(long epochSecond) {
+        return EpochMath.civil(Math.floorDiv(localEpochSecond(epochSecond), SECONDS_PER_DAY));
+    }
+}
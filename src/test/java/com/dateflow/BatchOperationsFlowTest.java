@@ -0,0 +1,163 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchOperationsFlowTest {
+
+    private static final long[] SAMPLE = {
+            Instant.parse("2021-12-04T22:35:46.786Z").toEpochMilli(),
+            Instant.parse("2020-01-31T00:00:00Z").toEpochMilli(),
+            Instant.parse("2019-03-31T23:59:59.999Z").toEpochMilli(),
+            Instant.parse("1969-12-31T23:59:59.001Z").toEpochMilli(),
+            Instant.parse("1900-02-28T12:00:00Z").toEpochMilli(),
+            0L
+    };
+
+    @Test
+    void shouldWorkInPlace() {
+        //Given
+        var millis = SAMPLE.clone();
+
+        //When
+        var result = DateFlow.fromAll(millis)
+                .plusDays(1)
+                .as()
+                .millis();
+
+        //Then
+        assertThat(result).isSameAs(millis);
+        assertThat(result[0]).isEqualTo(SAMPLE[0] + 86_400_000L);
+    }
+
+    @Test
+    void shouldResetMidNightTime() {
+        assertMatchesSingleFlow(it -> it.resetMidnightTime(), it -> it.resetMidnightTime());
+    }
+
+    @Test
+    void shouldResetTimeToLastSecondOfDay() {
+        assertMatchesSingleFlow(it -> it.resetToLastMilliOfDay(), it -> it.resetToLastMilliOfDay());
+    }
+
+    @Test
+    void shouldAddAndSubtractMonths() {
+        assertMatchesSingleFlow(it -> it.plusMonths(1), it -> it.plusMonths(1));
+        assertMatchesSingleFlow(it -> it.plusMonths(25), it -> it.plusMonths(25));
+        assertMatchesSingleFlow(it -> it.minusMonths(13), it -> it.minusMonths(13));
+    }
+
+    @Test
+    void shouldAddAndSubtractFixedUnits() {
+        assertMatchesSingleFlow(
+                it -> it.plusDays(3).plusHours(5).plusMinutes(7).plusSeconds(11),
+                it -> it.plusDays(3).plusHours(5).plusMinutes(7).plusSeconds(11));
+        assertMatchesSingleFlow(
+                it -> it.minusDays(3).minusHours(5).minusMinutes(7).minusSeconds(11),
+                it -> it.minusDays(3).minusHours(5).minusMinutes(7).minusSeconds(11));
+    }
+
+    @Test
+    void shouldMatchSingleFlowForRandomColumns() {
+        //Given
+        var random = new Random(11);
+        var millis = new long[1_000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = random.nextLong() % 10_000_000_000_000L;
+        }
+        var expected = new long[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            expected[i] = DateFlow.from(millis[i])
+                    .minusMonths(7).plusHours(13).resetMidnightTime().plusSeconds(1)
+                    .as().instant().toEpochMilli();
+        }
+
+        //When
+        var result = DateFlow.fromAll(millis)
+                .minusMonths(7).plusHours(13).resetMidnightTime().plusSeconds(1)
+                .as().millis();
+
+        //Then
+        assertThat(result).containsExactly(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTC", "+05:30", "Europe/Warsaw", "America/Sao_Paulo", "America/Havana", "Pacific/Apia"})
+    void shouldResetToZonedDayBoundaries(String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        var random = new Random(zone.hashCode());
+        var millis = new long[20_000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = random.nextLong() % 4_000_000_000_000L;
+        }
+        var starts = new long[millis.length];
+        var ends = new long[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            var zoned = Instant.ofEpochMilli(millis[i]).atZone(zoneId);
+            starts[i] = zoned.truncatedTo(ChronoUnit.DAYS).toInstant().toEpochMilli();
+            ends[i] = zoned.withHour(23).withMinute(59).withSecond(59).toInstant().toEpochMilli();
+        }
+
+        //When
+        var resultStarts = DateFlow.fromAll(millis.clone()).resetMidnightTime(zoneId).as().millis();
+        var resultEnds = DateFlow.fromAll(millis.clone()).parallel().resetToLastMilliOfDay(zoneId).as().millis();
+
+        //Then
+        assertThat(resultStarts).containsExactly(starts);
+        assertThat(resultEnds).containsExactly(ends);
+    }
+
+    @Test
+    void shouldMatchSequentialWhenParallel() {
+        //Given
+        var random = new Random(17);
+        var millis = new long[100_003];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = random.nextLong() % 10_000_000_000_000L;
+        }
+        var pool = new ForkJoinPool(4);
+        var expected = DateFlow.fromAll(millis.clone())
+                .minusMonths(7).plusHours(13).resetToLastMilliOfDay().minusDays(2).resetMidnightTime()
+                .as().millis();
+
+        //When
+        long[] result;
+        try {
+            result = DateFlow.fromAll(millis)
+                    .parallel(pool)
+                    .minusMonths(7).plusHours(13).resetToLastMilliOfDay().minusDays(2).resetMidnightTime()
+                    .as().millis();
+        } finally {
+            pool.shutdown();
+        }
+
+        //Then
+        assertThat(result).containsExactly(expected);
+    }
+
+    private static void assertMatchesSingleFlow(UnaryOperator<BatchOperationsFlow> batchOperations,
+                                                UnaryOperator<OperationsFlow> operations) {
+        //Given
+        var expected = new long[SAMPLE.length];
+        for (int i = 0; i < SAMPLE.length; i++) {
+            expected[i] = operations.apply(DateFlow.from(SAMPLE[i])).as().instant().toEpochMilli();
+        }
+
+        //When
+        var result = batchOperations.apply(DateFlow.fromAll(SAMPLE.clone())).as().millis();
+
+        //Then
+        assertThat(result).containsExactly(expected);
+    }
+}
@@ -0,0 +1,120 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static com.dateflow.Constants.DATE_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchTransformerFlowTest {
+
+    private static final long[] SAMPLE = sample();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTC", "+05:30", "Asia/Tokyo", "America/New_York", "Australia/Sydney"})
+    void shouldExportFieldsLikeTransformerFlow(String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+
+        //When
+        var result = DateFlow.fromAll(SAMPLE.clone())
+                .as()
+                .zoneId(zoneId);
+
+        //Then
+        assertThat(result.year()).containsExactly(expected(zoneId, TransformerFlow::year));
+        assertThat(result.month()).containsExactly(expected(zoneId, TransformerFlow::month));
+        assertThat(result.day()).containsExactly(expected(zoneId, TransformerFlow::day));
+        assertThat(result.hour()).containsExactly(expected(zoneId, TransformerFlow::hour));
+        assertThat(result.minutes()).containsExactly(expected(zoneId, TransformerFlow::minutes));
+        assertThat(result.seconds()).containsExactly(expected(zoneId, TransformerFlow::seconds));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTC", "Asia/Tokyo", "Europe/London"})
+    void shouldExportStringsLikeTransformerFlow(String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        Function<TransformerFlow, String> single = it -> it.string(DATE_FORMAT);
+        var expected = new String[SAMPLE.length];
+        for (int i = 0; i < SAMPLE.length; i++) {
+            expected[i] = single.apply(DateFlow.from(SAMPLE[i]).as().zoneId(zoneId));
+        }
+
+        //When
+        var result = DateFlow.fromAll(SAMPLE.clone())
+                .as()
+                .zoneId(zoneId)
+                .string(DATE_FORMAT);
+
+        //Then
+        assertThat(result).containsExactly(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTC", "America/New_York", "Australia/Sydney"})
+    void shouldExportInParallelLikeSequential(String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        var random = new Random(zone.hashCode());
+        var millis = new long[50_001];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = random.nextLong() % 4_000_000_000_000L;
+        }
+        var sequential = DateFlow.fromAll(millis).as().zoneId(zoneId);
+
+        //When
+        var parallel = DateFlow.fromAll(millis).parallel().as().zoneId(zoneId);
+
+        //Then
+        assertThat(parallel.year()).containsExactly(sequential.year());
+        assertThat(parallel.month()).containsExactly(sequential.month());
+        assertThat(parallel.day()).containsExactly(sequential.day());
+        assertThat(parallel.hour()).containsExactly(sequential.hour());
+        assertThat(parallel.minutes()).containsExactly(sequential.minutes());
+        assertThat(parallel.seconds()).containsExactly(sequential.seconds());
+        assertThat(parallel.string(DATE_FORMAT)).containsExactly(sequential.string(DATE_FORMAT));
+    }
+
+    @Test
+    void shouldNotReuseOffsetWindowAcrossZones() {
+        //Given
+        var tokyo = ZoneId.of("Asia/Tokyo");
+        var newYork = ZoneId.of("America/New_York");
+        var flow = DateFlow.fromAll(SAMPLE.clone()).as();
+
+        //When
+        int[] inTokyo = flow.zoneId(tokyo).hour();
+        int[] inNewYork = flow.zoneId(newYork).hour();
+
+        //Then
+        assertThat(inTokyo).containsExactly(expected(tokyo, TransformerFlow::hour));
+        assertThat(inNewYork).containsExactly(expected(newYork, TransformerFlow::hour));
+    }
+
+    private static int[] expected(ZoneId zoneId, ToIntFunction<TransformerFlow> field) {
+        var expected = new int[SAMPLE.length];
+        for (int i = 0; i < SAMPLE.length; i++) {
+            expected[i] = field.applyAsInt(DateFlow.from(SAMPLE[i]).as().zoneId(zoneId));
+        }
+        return expected;
+    }
+
+    private static long[] sample() {
+        var start = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+        var millis = new long[400];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = start + i * 86_400_000L + (i % 24) * 3_600_000L + i * 1_001L;
+        }
+        millis[7] = -1L;
+        millis[8] = Instant.parse("1965-06-30T23:30:00Z").toEpochMilli();
+        return millis;
+    }
+}
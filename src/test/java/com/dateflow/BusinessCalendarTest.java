@@ -0,0 +1,178 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BusinessCalendarTest {
+
+    private static final List<LocalDate> HOLIDAYS = List.of(
+            LocalDate.of(2021, 12, 24), LocalDate.of(2021, 12, 27), LocalDate.of(2021, 12, 31), LocalDate.of(2022, 1, 6));
+
+    @ParameterizedTest
+    @CsvSource({
+            "2021-12-22, 1, 2021-12-23",
+            "2021-12-22, 2, 2021-12-28",
+            "2021-12-23, 4, 2022-01-03",
+            "2021-12-25, 1, 2021-12-28",
+            "2021-12-25, 0, 2021-12-25",
+            "2022-01-03, -1, 2021-12-30",
+            "2021-12-26, -1, 2021-12-23",
+            "2022-01-10, -4, 2022-01-03"
+    })
+    void shouldMoveByBusinessDays(String date, int days, String expected) {
+        //Given
+        var calendar = BusinessCalendar.of(HOLIDAYS);
+
+        //When
+        LocalDate result = calendar.plusBusinessDays(LocalDate.parse(date), days);
+
+        //Then
+        assertThat(result).isEqualTo(LocalDate.parse(expected));
+        assertThat(calendar.minusBusinessDays(LocalDate.parse(date), -days)).isEqualTo(result);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2021-12-20, 2021-12-20, 0",
+            "2021-12-20, 2021-12-25, 4",
+            "2021-12-20, 2022-01-10, 11",
+            "2022-01-10, 2021-12-20, -11"
+    })
+    void shouldCountBusinessDaysBetween(String start, String end, long expected) {
+        //Given
+        var calendar = BusinessCalendar.of(HOLIDAYS);
+
+        //When
+        long result = calendar.businessDaysBetween(LocalDate.parse(start), LocalDate.parse(end));
+
+        //Then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldMatchDayByDayLoop() {
+        //Given
+        var random = new SplittableRandom(23);
+        Set<LocalDate> holidays = new HashSet<>();
+        for (int i = 0; i < 400; i++) {
+            holidays.add(LocalDate.ofEpochDay(random.nextLong(-3_650, 3_650)));
+        }
+        Set<DayOfWeek> weekend = EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY);
+        var calendar = BusinessCalendar.of(weekend, holidays, 1955, 1985);
+
+        for (int i = 0; i < 2_000; i++) {
+            var date = LocalDate.ofEpochDay(random.nextLong(-3_000, 3_000));
+            int days = random.nextInt(-300, 300);
+
+            //When
+            LocalDate result = calendar.plusBusinessDays(date, days);
+
+            //Then
+            assertThat(result).isEqualTo(loop(date, days, weekend, holidays));
+            assertThat(calendar.isBusinessDay(date))
+                    .isEqualTo(!weekend.contains(date.getDayOfWeek()) && !holidays.contains(date));
+            assertThat(calendar.businessDaysBetween(date, result))
+                    .isEqualTo(count(date, result, weekend, holidays));
+        }
+    }
+
+    @Test
+    void shouldCountUpToLastDayOfRange() {
+        //Given
+        var calendar = BusinessCalendar.of(Set.of(), List.of(LocalDate.of(2020, 2, 29)), 2020, 2020);
+
+        //When
+        long result = calendar.businessDaysBetween(LocalDate.of(2020, 1, 1), LocalDate.of(2021, 1, 1));
+
+        //Then
+        assertThat(result).isEqualTo(365);
+        assertThat(calendar.plusBusinessDays(LocalDate.of(2020, 1, 1), 364)).isEqualTo(LocalDate.of(2020, 12, 31));
+    }
+
+    @Test
+    void shouldRejectDatesOutsideRange() {
+        //Given
+        var calendar = BusinessCalendar.of(Set.of(), List.of(), 2020, 2020);
+
+        //Then
+        assertThatThrownBy(() -> calendar.plusBusinessDays(LocalDate.of(2020, 12, 31), 1))
+                .isInstanceOf(DateTimeException.class);
+        assertThatThrownBy(() -> calendar.minusBusinessDays(LocalDate.of(2020, 1, 1), 1))
+                .isInstanceOf(DateTimeException.class);
+        assertThatThrownBy(() -> calendar.isBusinessDay(LocalDate.of(2019, 12, 31)))
+                .isInstanceOf(DateTimeException.class);
+        assertThatThrownBy(() -> BusinessCalendar.of(Set.of(), List.of(LocalDate.of(2021, 1, 1)), 2020, 2020))
+                .isInstanceOf(DateTimeException.class);
+        assertThatThrownBy(() -> BusinessCalendar.of(Set.of(), List.of(), 2021, 2020))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMoveFlowByBusinessDaysKeepingTime() {
+        //Given
+        var calendar = BusinessCalendar.of(HOLIDAYS);
+
+        //When
+        Instant result = DateFlow.from(Instant.parse("2021-12-23T10:15:30Z"))
+                .plusBusinessDays(2, calendar)
+                .plusHours(1)
+                .as()
+                .instant();
+
+        //Then
+        assertThat(result).isEqualTo(Instant.parse("2021-12-29T11:15:30Z"));
+    }
+
+    @Test
+    void shouldUseLocalDateOfFlowZone() {
+        //Given
+        var calendar = BusinessCalendar.of(HOLIDAYS);
+        var zoneId = ZoneId.of("America/New_York");
+        var start = Instant.parse("2021-12-23T03:00:00Z");
+        var flow = new OperationsFlow(zoneId, TimeZone.getTimeZone(zoneId), start.getEpochSecond(), 0);
+
+        //When
+        Instant result = flow.minusBusinessDays(1, calendar).as().instant();
+
+        //Then
+        assertThat(result).isEqualTo(LocalDate.of(2021, 12, 21).atTime(22, 0).toInstant(ZoneOffset.ofHours(-5)));
+    }
+
+    private static LocalDate loop(LocalDate date, int days, Set<DayOfWeek> weekend, Set<LocalDate> holidays) {
+        int step = days < 0 ? -1 : 1;
+        for (int remaining = Math.abs(days); remaining > 0; ) {
+            date = date.plusDays(step);
+            if (!weekend.contains(date.getDayOfWeek()) && !holidays.contains(date)) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+
+    private static long count(LocalDate start, LocalDate end, Set<DayOfWeek> weekend, Set<LocalDate> holidays) {
+        long count = 0;
+        for (var date = start.isBefore(end) ? start : end; date.isBefore(start.isBefore(end) ? end : start); date = date.plusDays(1)) {
+            if (!weekend.contains(date.getDayOfWeek()) && !holidays.contains(date)) {
+                count++;
+            }
+        }
+        return start.isBefore(end) ? count : -count;
+    }
+}
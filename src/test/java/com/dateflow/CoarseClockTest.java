@@ -0,0 +1,97 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoarseClockTest {
+
+    @Test
+    void shouldServeCachedTimeUntilNextTick() throws InterruptedException {
+        //Given
+        var source = new SteppingClock(1_000L);
+
+        try (var clock = new CoarseClock(source, Duration.ofMillis(5))) {
+            //When
+            long first = clock.millis();
+            source.time.set(2_000L);
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (clock.millis() != 2_000L && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            //Then
+            assertThat(first).isEqualTo(1_000L);
+            assertThat(clock.instant()).isEqualTo(Instant.ofEpochMilli(2_000L));
+        }
+    }
+
+    @Test
+    void shouldStopTickingWhenClosed() {
+        //Given
+        var clock = new CoarseClock(Duration.ofMillis(1));
+
+        //When
+        clock.close();
+
+        //Then
+        assertThat(clock.isClosed()).isTrue();
+    }
+
+    @Test
+    void shouldShareTickerWithZonedView() {
+        //Given
+        try (var clock = new CoarseClock(new SteppingClock(42L), Duration.ofSeconds(1))) {
+            //When
+            var zoned = clock.withZone(ZoneId.of("Asia/Tokyo"));
+
+            //Then
+            assertThat(zoned.getZone()).isEqualTo(ZoneId.of("Asia/Tokyo"));
+            assertThat(zoned.millis()).isEqualTo(42L);
+            assertThat(zoned.withZone(ZoneOffset.UTC)).isSameAs(clock);
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveTick() {
+        assertThatThrownBy(() -> new CoarseClock(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class SteppingClock extends Clock {
+
+        private final AtomicLong time;
+
+        SteppingClock(long millis) {
+            this.time = new AtomicLong(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long millis() {
+            return time.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+    }
+}
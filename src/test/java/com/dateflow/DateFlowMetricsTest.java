@@ -0,0 +1,135 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DateFlowMetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        DateFlowMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DateFlowMetrics.disable();
+        DateFlowMetrics.reset();
+    }
+
+    @Test
+    void shouldRecordNothingWhenDisabled() {
+        //Given
+        DateFlowMetrics.disable();
+
+        //When
+        DateFlow.from(0L).plusDays(1).as().string("yyyy-MM-dd");
+        MetricsSnapshot snapshot = DateFlowMetrics.snapshot();
+
+        //Then
+        assertThat(snapshot.counters()).containsEntry("DateFlow.from", 0L).containsEntry("OperationsFlow.plusDays", 0L);
+        assertThat(snapshot.timer("OperationsFlow.evaluate").count()).isZero();
+        assertThat(snapshot.timer("TransformerFlow.string").count()).isZero();
+    }
+
+    @Test
+    void shouldCountEntryPointsOperationsAndExporters() throws ParseException {
+        //Given
+        DateFlowMetrics.enable();
+
+        //When
+        TransformerFlow transformer = DateFlow.from("2020-02-10 10:00:00", "yyyy-MM-dd HH:mm:ss")
+                .plusDays(1)
+                .minusDays(2)
+                .plusHours(3)
+                .resetMidnightTime()
+                .as();
+        transformer.string("yyyy-MM-dd");
+        transformer.formatTo("yyyy-MM-dd", new StringBuilder());
+        transformer.day();
+        transformer.month();
+        transformer.fields();
+        MetricsSnapshot snapshot = DateFlowMetrics.snapshot();
+
+        //Then
+        assertThat(snapshot.counters())
+                .containsEntry("DateFlow.from", 1L)
+                .containsEntry("OperationsFlow.plusDays", 2L)
+                .containsEntry("OperationsFlow.shift", 1L)
+                .containsEntry("OperationsFlow.resetMidnightTime", 1L);
+        assertThat(snapshot.timer("DateParser.parse").count()).isEqualTo(1);
+        assertThat(snapshot.timer("OperationsFlow.evaluate").count()).isEqualTo(1);
+        assertThat(snapshot.timer("TransformerFlow.string").count()).isEqualTo(1);
+        assertThat(snapshot.timer("TransformerFlow.formatTo").count()).isEqualTo(1);
+        assertThat(snapshot.timer("TransformerFlow.field").count()).isEqualTo(2);
+        assertThat(snapshot.timer("TransformerFlow.fields").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountParseFailuresByPattern() {
+        //Given
+        DateFlowMetrics.enable();
+        DateParser parser = DateParser.of("yyyy-MM-dd", ZoneId.of("UTC"));
+
+        //When
+        assertThatThrownBy(() -> parser.parse("not a date")).isInstanceOf(ParseException.class);
+        assertThatThrownBy(() -> parser.parse("2020/01/01")).isInstanceOf(ParseException.class);
+        MetricsSnapshot snapshot = DateFlowMetrics.snapshot();
+
+        //Then
+        assertThat(snapshot.parseFailures()).containsEntry("yyyy-MM-dd", 2L);
+        assertThat(snapshot.timer("DateParser.parse").count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldExposeFormatterCacheCounters() {
+        //Given
+        FormatterCache cache = FormatterCache.shared();
+        long hits = cache.hitCount();
+
+        //When
+        DateFlow.from(0L).as().string("yyyy-MM-dd'T'HH");
+        DateFlow.from(0L).as().string("yyyy-MM-dd'T'HH");
+        MetricsSnapshot snapshot = DateFlowMetrics.snapshot();
+
+        //Then
+        assertThat(snapshot.formatterCacheHits()).isGreaterThan(hits);
+        assertThat(snapshot.formatterCacheMisses()).isEqualTo(cache.missCount());
+    }
+
+    @Test
+    void shouldBucketLatenciesByPowerOfTwo() {
+        //Given
+        var timer = new LatencyTimer("test");
+
+        //When
+        for (int i = 0; i < 99; i++) {
+            timer.record(100);
+        }
+        timer.record(5_000);
+        MetricsSnapshot.TimerSnapshot snapshot = timer.snapshot();
+
+        //Then
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.totalNanos()).isEqualTo(99 * 100 + 5_000);
+        assertThat(snapshot.quantileNanos(0.5)).isEqualTo(127);
+        assertThat(snapshot.quantileNanos(1)).isEqualTo(8_191);
+        assertThat(snapshot.buckets()[7]).isEqualTo(99);
+    }
+
+    @Test
+    void shouldRejectQuantileOutOfRange() {
+        //Given
+        MetricsSnapshot.TimerSnapshot snapshot = new LatencyTimer("test").snapshot();
+
+        //When Then
+        assertThat(snapshot.quantileNanos(0.5)).isZero();
+        assertThatThrownBy(() -> snapshot.quantileNanos(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,12 +7,17 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junitpioneer.jupiter.DefaultTimeZone;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.text.ParseException;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 
 import static com.dateflow.Constants.TIME_ZONE;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,11 +35,91 @@ class DateFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .isBeforeOrEqualTo(now);
     }
 
+    @Test
+    void shouldCreateDateFromGivenClock() {
+        //Given
+        var clock = Clock.fixed(Instant.parse("2021-12-04T22:35:46.786Z"), ZoneOffset.UTC);
+
+        //When
+        var operationsFlow = DateFlow.now(clock);
+
+        //Then
+        assertBaseDateFlow(operationsFlow);
+        assertThat(operationsFlow.instant()).isEqualTo("2021-12-04T22:35:46.786Z");
+    }
+
+    @Test
+    void shouldCreateDateFromConfiguredClock() {
+        //Given
+        var previous = DateFlow.clock();
+        DateFlow.useClock(Clock.fixed(Instant.parse("2021-12-04T22:35:46.786Z"), ZoneOffset.UTC));
+
+        try {
+            //When
+            var operationsFlow = DateFlow.now();
+
+            //Then
+            assertThat(operationsFlow.instant()).isEqualTo("2021-12-04T22:35:46.786Z");
+        } finally {
+            DateFlow.useClock(previous);
+        }
+    }
+
+    @Test
+    @DefaultTimeZone("UTC")
+    void shouldTryCreateDateFromString() throws ParseException {
+        //Given
+        var format = "yyyy-MM-dd HH:mm:ss";
+
+        //When
+        var parsed = DateFlow.tryFrom("2021-12-04 22:35:46", format);
+        var slice = DateFlow.tryFrom("ts=2021-12-04 22:35:46;", 3, 22, format);
+        var rejected = DateFlow.tryFrom("2021-12-04 22:xx:46", format);
+
+        //Then
+        assertThat(parsed).hasValueSatisfying(it -> assertThat(it.instant()).isEqualTo("2021-12-04T22:35:46Z"));
+        assertThat(slice.map(OperationsFlow::instant)).contains(DateFlow.from("2021-12-04 22:35:46", format).instant());
+        assertThat(rejected).isEmpty();
+    }
+
+    @Test
+    void shouldNotReadClockWhenCreatingFromValue() throws ParseException {
+        //Given
+        var previous = DateFlow.clock();
+        DateFlow.useClock(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                throw new AssertionError("clock read");
+            }
+        });
+
+        try {
+            //Then
+            assertThat(DateFlow.from(0L).instant()).isEqualTo(Instant.EPOCH);
+            assertThat(DateFlow.from(Instant.EPOCH).instant()).isEqualTo(Instant.EPOCH);
+            assertThat(DateFlow.from(LocalDate.of(1970, 1, 1)).instant()).isEqualTo(Instant.EPOCH);
+            assertThat(DateFlow.from("1970-01-01", "yyyy-MM-dd")).isNotNull();
+            assertThat(DateFlow.from(LocalDateTime.of(1970, 1, 1, 0, 0))).isNotNull();
+        } finally {
+            DateFlow.useClock(previous);
+        }
+    }
+
     @Test
     void shouldCreateDateFromNow() {
         //When
@@ -43,7 +128,7 @@ class DateFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .isBeforeOrEqualTo(Instant.now());
     }
@@ -56,7 +141,7 @@ class DateFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .isBeforeOrEqualTo(Instant.now());
     }
@@ -69,7 +154,7 @@ class DateFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .isBeforeOrEqualTo(Instant.now());
     }
@@ -89,7 +174,7 @@ class DateFlowTest {
             //Then
             assertThat(operationsFlow).isNotNull();
             assertBaseDateFlow(operationsFlow);
-            assertThat(operationsFlow.instant)
+            assertThat(operationsFlow.instant())
                     .isNotNull()
                     .satisfies(e -> {
                         assertThat(e.atZone(operationsFlow.zoneId).getYear()).isEqualTo(now.atZone(operationsFlow.zoneId).getYear());
@@ -110,7 +195,7 @@ class DateFlowTest {
             //Then
             assertThat(operationsFlow).isNotNull();
             assertBaseDateFlow(operationsFlow);
-            assertThat(operationsFlow.instant)
+            assertThat(operationsFlow.instant())
                     .isNotNull()
                     .satisfies(e -> {
                         assertThat(e.atZone(operationsFlow.zoneId).getYear()).isEqualTo(localDateTime.getYear());
@@ -133,7 +218,7 @@ class DateFlowTest {
             //Then
             assertThat(operationsFlow).isNotNull();
             assertBaseDateFlow(operationsFlow);
-            assertThat(operationsFlow.instant)
+            assertThat(operationsFlow.instant())
                     .isNotNull()
                     .satisfies(it -> {
                         assertThat(it.atZone(operationsFlow.zoneId).getYear()).isEqualTo(2021);
@@ -157,7 +242,7 @@ class DateFlowTest {
             //Then
             assertThat(operationsFlow).isNotNull();
             assertBaseDateFlow(operationsFlow);
-            assertThat(operationsFlow.instant)
+            assertThat(operationsFlow.instant())
                     .isNotNull()
                     .satisfies(it -> {
                         assertThat(it.atZone(operationsFlow.zoneId).getYear()).isEqualTo(2021);
@@ -169,6 +254,25 @@ class DateFlowTest {
                     });
         }
 
+        @Test
+        void shouldCreateDateFromSlices() throws ParseException {
+            var line = "id=7 at=2021-12-04T23:04 ok";
+            var bytes = line.getBytes(StandardCharsets.US_ASCII);
+            var dateFormat = "yyyy-MM-dd'T'HH:mm";
+            var expected = DateFlow.from("2021-12-04T23:04", dateFormat).instant();
+
+            //When
+            var fromChars = DateFlow.from(line, 8, 24, dateFormat);
+            var fromBytes = DateFlow.from(bytes, 8, 24, dateFormat);
+            var fromBuffer = DateFlow.from(ByteBuffer.wrap(bytes), 8, 24, dateFormat);
+
+            //Then
+            assertBaseDateFlow(fromChars);
+            assertThat(fromChars.instant()).isEqualTo(expected);
+            assertThat(fromBytes.instant()).isEqualTo(expected);
+            assertThat(fromBuffer.instant()).isEqualTo(expected);
+        }
+
         @Test
         void shouldCreateDateFromStringAndTimeFormat() throws ParseException {
             var date = "2021-12-04T23:04";
@@ -181,7 +285,7 @@ class DateFlowTest {
             //Then
             assertThat(operationsFlow).isNotNull();
             assertBaseDateFlow(operationsFlow);
-            assertThat(operationsFlow.instant)
+            assertThat(operationsFlow.instant())
                     .isNotNull()
                     .satisfies(it -> {
                         assertThat(it.atZone(operationsFlow.zoneId).getYear()).isEqualTo(2021);
@@ -0,0 +1,310 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static com.dateflow.Constants.DATE_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DateParserTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "2021-12-04T22:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-12-04T22:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|Australia/Sydney",
+            "2021-12-04|yyyy-MM-dd|America/New_York",
+            "20211204223546|yyyyMMddHHmmss|Asia/Tokyo",
+            "2021-1-4|yyyy-MM-dd|UTC",
+            "2021-12- 4|yyyy-MM-dd|UTC",
+            "04/Dec/2021 10:15|dd/MMM/yyyy HH:mm|Europe/London",
+            "2021-11-07 01:30|yyyy-MM-dd HH:mm|America/New_York",
+            "22:35|HH:mm|UTC",
+            "2021-12-04T22:35:46.786Z trailing|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC"})
+    void shouldParseLikeStrictSimpleDateFormat(String date, String pattern, String zone) throws ParseException {
+        //Given
+        var zoneId = ZoneId.of(zone);
+
+        //When
+        var result = DateParser.of(pattern, zoneId, Locale.UK).parse(date);
+
+        //Then
+        assertThat(result).isEqualTo(strictFormat(pattern, zoneId).parse(date).getTime());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "2021-02-30|yyyy-MM-dd|UTC",
+            "2021-13-01|yyyy-MM-dd|UTC",
+            "2021-12-04T24:00|yyyy-MM-dd'T'HH:mm|UTC",
+            "2021-12-04X|yyyy-MM-dd'T'|UTC",
+            "2021-03-14 02:30|yyyy-MM-dd HH:mm|America/New_York",
+            "20211|yyyyMMdd|UTC",
+            "|yyyy-MM-dd|UTC"})
+    void shouldFailLikeStrictSimpleDateFormat(String date, String pattern, String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        var text = date == null ? "" : date;
+        var expected = catchParseException(() -> strictFormat(pattern, zoneId).parse(text));
+
+        //When
+        var result = catchParseException(() -> DateParser.of(pattern, zoneId, Locale.UK).parse(text));
+
+        //Then
+        assertThat(result)
+                .isNotNull()
+                .hasMessage(expected.getMessage())
+                .satisfies(it -> assertThat(it.getErrorOffset()).isEqualTo(expected.getErrorOffset()));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "2021-02-30|yyyy-MM-dd|UTC",
+            "2021-13-01|yyyy-MM-dd|UTC",
+            "2021-12-04T24:00|yyyy-MM-dd'T'HH:mm|UTC",
+            "2021-12-04X|yyyy-MM-dd'T'|UTC",
+            "2021-03-14 02:30|yyyy-MM-dd HH:mm|America/New_York",
+            "N/A|yyyy-MM-dd|UTC",
+            "04/Dcx/2021 10:15|dd/MMM/yyyy HH:mm|Europe/London",
+            "|yyyy-MM-dd|UTC"})
+    void shouldReportFailuresThroughPositionWithoutThrowing(String date, String pattern, String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        var text = date == null ? "" : date;
+        var expected = catchParseException(() -> strictFormat(pattern, zoneId).parse(text));
+        var position = new ParsePosition(0);
+
+        //When
+        long result = DateParser.of(pattern, zoneId, Locale.UK).tryParse(text, position);
+
+        //Then
+        assertThat(result).isEqualTo(DateParser.INVALID);
+        assertThat(position.getIndex()).isZero();
+        assertThat(position.getErrorIndex()).isEqualTo(expected.getErrorOffset());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "2021-12-04T22:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "04/Dec/2021 10:15|dd/MMM/yyyy HH:mm|Europe/London",
+            "2021-11-07 01:30|yyyy-MM-dd HH:mm|America/New_York"})
+    void shouldTryParseLikeParse(String date, String pattern, String zone) throws ParseException {
+        //Given
+        var parser = DateParser.of(pattern, ZoneId.of(zone), Locale.UK);
+        var position = new ParsePosition(0);
+
+        //When
+        long result = parser.tryParse(date, position);
+
+        //Then
+        assertThat(result).isEqualTo(parser.parse(date));
+        assertThat(position.getIndex()).isEqualTo(date.length());
+        assertThat(position.getErrorIndex()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldSetIndexAfterParsedTextWhenTrailingTextIsLeft() throws ParseException {
+        //Given
+        var parser = DateParser.of(DATE_FORMAT, ZoneId.of("UTC"), Locale.UK);
+        var position = new ParsePosition(0);
+
+        //When
+        long result = parser.tryParse("2021-12-04T22:35:46.786Z trailing", position);
+
+        //Then
+        assertThat(result).isEqualTo(parser.parse("2021-12-04T22:35:46.786Z"));
+        assertThat(position.getIndex()).isEqualTo(24);
+        assertThat(position.getErrorIndex()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldReportSliceFailuresAtAbsoluteIndex() {
+        //Given
+        var parser = DateParser.of("yyyy-MM-dd HH:mm", ZoneId.of("UTC"), Locale.UK);
+        var line = "42 INFO 2021-12-04 2x:35 rest";
+        var bytes = line.getBytes(StandardCharsets.US_ASCII);
+        var expected = catchParseException(() -> parser.parse("2021-12-04 2x:35"));
+        var fromChars = new ParsePosition(0);
+        var fromBytes = new ParsePosition(0);
+        var fromBuffer = new ParsePosition(0);
+
+        //When
+        parser.tryParse(line, 8, 24, fromChars);
+        parser.tryParse(bytes, 8, 24, fromBytes);
+        parser.tryParse(ByteBuffer.wrap(bytes), 8, 24, fromBuffer);
+
+        //Then
+        assertThat(List.of(fromChars, fromBytes, fromBuffer)).allSatisfy(it -> {
+            assertThat(it.getIndex()).isEqualTo(8);
+            assertThat(it.getErrorIndex()).isEqualTo(8 + expected.getErrorOffset());
+        });
+    }
+
+    @Test
+    void shouldSetIndexPastSliceOnSuccess() throws ParseException {
+        //Given
+        var parser = DateParser.of("yyyy-MM-dd HH:mm", ZoneId.of("UTC"), Locale.UK);
+        var line = "42 INFO 2021-12-04 22:35 rest";
+        var position = new ParsePosition(0);
+
+        //When
+        long result = parser.tryParse(line.getBytes(StandardCharsets.US_ASCII), 8, 24, position);
+
+        //Then
+        assertThat(result).isEqualTo(parser.parse("2021-12-04 22:35"));
+        assertThat(position.getIndex()).isEqualTo(24);
+        assertThat(position.getErrorIndex()).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "2021-12-04T22:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|Australia/Sydney",
+            "2021-1-4|yyyy-MM-dd|UTC",
+            "04/Dec/2021 10:15|dd/MMM/yyyy HH:mm|Europe/London",
+            "2021-11-07 01:30|yyyy-MM-dd HH:mm|America/New_York",
+            "2021-12-04 22:35|yyyy-MM-dd HH:mm|UTC"})
+    void shouldParseSlicesLikeSubstring(String date, String pattern, String zone) throws ParseException {
+        //Given
+        var parser = DateParser.of(pattern, ZoneId.of(zone), Locale.UK);
+        var line = "42 INFO " + date + "1 rest";
+        int start = 8;
+        int end = start + date.length();
+        var bytes = line.getBytes(StandardCharsets.US_ASCII);
+        var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        long expected = parser.parse(date);
+
+        //Then
+        assertThat(parser.parse(line, start, end)).isEqualTo(expected);
+        assertThat(parser.parse(new StringBuilder(line), start, end)).isEqualTo(expected);
+        assertThat(parser.parse(bytes, start, end)).isEqualTo(expected);
+        assertThat(parser.parse(direct, start, end)).isEqualTo(expected);
+        assertThat(direct.position()).isEqualTo(bytes.length);
+    }
+
+    @Test
+    void shouldFailOnSliceLikeSubstring() {
+        //Given
+        var parser = DateParser.of("yyyy-MM-dd HH:mm", ZoneId.of("UTC"), Locale.UK);
+        var line = "42 INFO 2021-12-04 2x:35 rest";
+        var expected = catchParseException(() -> parser.parse("2021-12-04 2x:35"));
+
+        //When
+        var fromChars = catchParseException(() -> parser.parse(line, 8, 24));
+        var fromBytes = catchParseException(() -> parser.parse(line.getBytes(StandardCharsets.US_ASCII), 8, 24));
+
+        //Then
+        assertThat(expected).isNotNull();
+        assertThat(fromChars)
+                .hasMessage(expected.getMessage())
+                .satisfies(it -> assertThat(it.getErrorOffset()).isEqualTo(expected.getErrorOffset()));
+        assertThat(fromBytes)
+                .hasMessage(expected.getMessage())
+                .satisfies(it -> assertThat(it.getErrorOffset()).isEqualTo(expected.getErrorOffset()));
+    }
+
+    @Test
+    void shouldRejectSliceOutOfBounds() {
+        //Given
+        var parser = DateParser.of(DATE_FORMAT, ZoneId.of("UTC"), Locale.UK);
+
+        //Then
+        assertThatThrownBy(() -> parser.parse("2021-12-04", 2, 11))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> parser.parse(new byte[4], 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldParseWithoutFallingBackForNumericPatterns() {
+        //Given
+        var parser = DateParser.of(DATE_FORMAT, ZoneId.of("UTC"), Locale.UK);
+        var date = "2021-12-04T22:35:46.786Z";
+
+        //When
+        var result = parser.parseCompiled(date, 0, date.length());
+
+        //Then
+        assertThat(result).isEqualTo(1638657346786L);
+    }
+
+    @Test
+    void shouldParseLikeSimpleDateFormatAfterLastTimeZoneTransitionYear() throws ParseException {
+        //Given
+        var zoneId = ZoneId.of("Africa/Casablanca");
+        var parser = DateParser.of("yyyy-MM-dd HH:mm", zoneId, Locale.UK);
+        var format = new SimpleDateFormat("yyyy-MM-dd HH:mm", Locale.UK);
+        format.setTimeZone(TimeZone.getTimeZone(zoneId));
+        format.setLenient(false);
+
+        for (long millis = 2_145_916_800_000L; millis < 2_240_611_200_000L; millis += 7 * 3_600_000L) {
+            //When
+            var date = format.format(new Date(millis));
+
+            //Then
+            assertThat(parser.parse(date)).as(date).isEqualTo(format.parse(date).getTime());
+        }
+    }
+
+    @Test
+    void shouldDelegateTextPatterns() {
+        //Given
+        var parser = DateParser.of("dd MMM yyyy", ZoneId.of("UTC"), Locale.UK);
+        var date = "04 Dec 2021";
+
+        //When
+        var result = parser.parseCompiled(date, 0, date.length());
+
+        //Then
+        assertThat(result).isEqualTo(DateParser.UNPARSED);
+    }
+
+    @Test
+    void shouldReuseCompiledParser() {
+        //When
+        var first = DateParser.of(DATE_FORMAT, ZoneId.of("UTC"), Locale.UK);
+        var second = DateParser.of(DATE_FORMAT, ZoneId.of("UTC"), Locale.UK);
+
+        //Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.pattern()).isEqualTo(DATE_FORMAT);
+        assertThat(first.zoneId()).isEqualTo(ZoneId.of("UTC"));
+    }
+
+    @Test
+    void shouldRejectInvalidPattern() {
+        assertThatThrownBy(() -> DateParser.of("yyyy-MM-dd'T", ZoneId.of("UTC"), Locale.UK))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SimpleDateFormat strictFormat(String pattern, ZoneId zoneId) {
+        var format = new SimpleDateFormat(pattern, Locale.UK);
+        format.setTimeZone(TimeZone.getTimeZone(zoneId));
+        format.setLenient(false);
+        return format;
+    }
+
+    private static ParseException catchParseException(ParseCall call) {
+        try {
+            call.parse();
+            return null;
+        } catch (ParseException e) {
+            return e;
+        }
+    }
+
+    private interface ParseCall {
+        Object parse() throws ParseException;
+    }
+}
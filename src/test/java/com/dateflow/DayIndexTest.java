@@ -0,0 +1,79 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayIndexTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTC", "+05:45", "Europe/Warsaw", "America/Sao_Paulo", "America/Havana", "Pacific/Apia",
+            "Asia/Tehran", "America/Santiago", "Africa/Casablanca", "Australia/Lord_Howe", "Asia/Gaza"})
+    void shouldMatchZonedDateTimeBoundaries(String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        var dayIndex = DayIndex.of(zoneId);
+        var random = new SplittableRandom(zone.hashCode());
+
+        for (int i = 0; i < 20_000; i++) {
+            long epochSecond = random.nextLong(-2_000_000_000L, 4_000_000_000L);
+            ZonedDateTime zoned = Instant.ofEpochSecond(epochSecond).atZone(zoneId);
+
+            //When
+            long start = dayIndex.dayStart(epochSecond);
+            long end = dayIndex.dayEnd(epochSecond);
+
+            //Then
+            if (start != DayIndex.UNINDEXED) {
+                assertThat(start).isEqualTo(zoned.truncatedTo(ChronoUnit.DAYS).toEpochSecond());
+            }
+            if (end != DayIndex.UNINDEXED) {
+                assertThat(end).isEqualTo(zoned.withHour(23).withMinute(59).withSecond(59).toEpochSecond());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "America/Sao_Paulo,2018-11-04T12:00:00Z,2018-11-04T03:00:00Z",
+            "Asia/Tehran,2021-03-22T12:00:00Z,2021-03-21T20:30:00Z"
+    })
+    void shouldStartDayAtEndOfMidnightGap(String zone, String instant, String expected) {
+        //When
+        var result = DayIndex.of(ZoneId.of(zone)).dayStart(Instant.parse(instant).getEpochSecond());
+
+        //Then
+        assertThat(Instant.ofEpochSecond(result)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldLeaveAmbiguousMidnightToZonedDateTime() {
+        //Given
+        var zoneId = ZoneId.of("America/Havana");
+        var instant = Instant.parse("2012-11-04T12:00:00Z");
+
+        //When
+        var result = DayIndex.of(zoneId).dayStart(instant.getEpochSecond());
+        var flow = DateFlow.from(instant);
+        flow.zoneId = zoneId;
+        var reset = flow.resetMidnightTime().instant();
+
+        //Then
+        assertThat(result).isEqualTo(DayIndex.UNINDEXED);
+        assertThat(reset).isEqualTo(instant.atZone(zoneId).truncatedTo(ChronoUnit.DAYS).toInstant());
+    }
+
+    @Test
+    void shouldShareIndexPerZone() {
+        assertThat(DayIndex.of(ZoneId.of("Europe/Warsaw"))).isSameAs(DayIndex.of(ZoneId.of("Europe/Warsaw")));
+    }
+}
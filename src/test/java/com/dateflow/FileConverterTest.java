@@ -0,0 +1,166 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.ZoneId;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileConverterTest {
+
+    private static final String INPUT_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final String OUTPUT_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldConvertCsvColumn() throws IOException, ParseException {
+        //Given
+        var input = write("id,at,name\n"
+                + "1,2021-12-04 22:35:46,\"a, b\"\r\n"
+                + "2,\"2021-03-28 03:30:00\",c\n"
+                + "\n"
+                + "3,2021-01-01 00:00:00,d");
+        var output = directory.resolve("out.csv");
+
+        //When
+        var report = new FileConverter(template(), OUTPUT_FORMAT)
+                .csv(1)
+                .skipHeader()
+                .convert(input, output);
+
+        //Then
+        assertThat(read(output)).isEqualTo("id,at,name\n"
+                + "1,2021-12-04T21:35:46.000Z,\"a, b\"\r\n"
+                + "2,\"2021-03-28T01:30:00.000Z\",c\n"
+                + "\n"
+                + "3,2020-12-31T23:00:00.000Z,d");
+        assertThat(report.rows()).isEqualTo(3);
+        assertThat(report.bytesRead()).isEqualTo(Files.size(input));
+        assertThat(report.bytesWritten()).isEqualTo(Files.size(output));
+        assertThat(report.rowsPerSecond()).isPositive();
+    }
+
+    @Test
+    void shouldConvertNdjsonField() throws IOException, ParseException {
+        //Given
+        var input = write("{\"id\":1,\"at\" : \"2021-12-04 22:35:46\",\"note\":\"x\"}\n"
+                + "{\"cat\":\"2\",\"at\":\"2021-06-01 12:00:00\"}\n");
+        var output = directory.resolve("out.ndjson");
+
+        //When
+        var report = new FileConverter(template(), OUTPUT_FORMAT)
+                .ndjson("at")
+                .convert(input, output);
+
+        //Then
+        assertThat(read(output)).isEqualTo("{\"id\":1,\"at\" : \"2021-12-04T21:35:46.000Z\",\"note\":\"x\"}\n"
+                + "{\"cat\":\"2\",\"at\":\"2021-06-01T10:00:00.000Z\"}\n");
+        assertThat(report.rows()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSkipNdjsonValuesSpellingTheField() throws IOException, ParseException {
+        //Given
+        var input = write("{\"kind\":\"at\", \"at\":\"2021-12-04 22:35:46\"}\n"
+                + "{\"tags\":[\"at\"],\"at\":\"2021-06-01 12:00:00\"}\n");
+        var output = directory.resolve("out.ndjson");
+
+        //When
+        var report = new FileConverter(template(), OUTPUT_FORMAT)
+                .ndjson("at")
+                .convert(input, output);
+
+        //Then
+        assertThat(read(output)).isEqualTo("{\"kind\":\"at\", \"at\":\"2021-12-04T21:35:46.000Z\"}\n"
+                + "{\"tags\":[\"at\"],\"at\":\"2021-06-01T10:00:00.000Z\"}\n");
+        assertThat(report.rows()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCarryRecordsAcrossChunksAndFlushes() throws IOException, ParseException {
+        //Given
+        var content = new StringBuilder();
+        var expected = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            content.append(i).append(",2021-07-").append(String.format("%02d", i % 28 + 1)).append(" 10:00:00,row\n");
+            expected.append(i).append(",2021-07-").append(String.format("%02d", i % 28 + 1)).append("T08:00:00.000Z,row\n");
+        }
+        var input = write(content.toString());
+        var output = directory.resolve("out.csv");
+
+        //When
+        var report = new FileConverter(template(), OUTPUT_FORMAT)
+                .csv(1)
+                .chunkSize(1_000)
+                .bufferSize(600)
+                .convert(input, output);
+
+        //Then
+        assertThat(read(output)).isEqualTo(expected.toString());
+        assertThat(report.rows()).isEqualTo(2_000);
+    }
+
+    @Test
+    void shouldReportLineOfUnparseableTimestamp() throws IOException {
+        //Given
+        var input = write("1,2021-12-04 22:35:46\n2,yesterday\n");
+        var converter = new FileConverter(template(), OUTPUT_FORMAT).csv(1);
+
+        //Then
+        assertThatThrownBy(() -> converter.convert(input, directory.resolve("out.csv")))
+                .isInstanceOf(ParseException.class)
+                .hasMessageContaining("yesterday")
+                .hasMessageEndingWith("at line 2");
+    }
+
+    @Test
+    void shouldLeaveOutputUntouchedWhenConversionFails() throws IOException {
+        //Given
+        var input = write("1,2021-12-04 22:35:46\n2,yesterday\n");
+        var output = directory.resolve("out.csv");
+        Files.write(output, "previous\n".getBytes(UTF_8));
+        var converter = new FileConverter(template(), OUTPUT_FORMAT).csv(1).bufferSize(512);
+
+        //When
+        assertThatThrownBy(() -> converter.convert(input, output)).isInstanceOf(ParseException.class);
+
+        //Then
+        assertThat(read(output)).isEqualTo("previous\n");
+        assertThat(directory.resolve("out.csv.part")).doesNotExist();
+    }
+
+    @Test
+    void shouldRejectRecordLongerThanChunk() throws IOException {
+        //Given
+        var input = write("1,2021-12-04 22:35:46\n2,2021-12-04 22:35:46\n");
+        var converter = new FileConverter(template(), OUTPUT_FORMAT).csv(1).chunkSize(10);
+
+        //Then
+        assertThatThrownBy(() -> converter.convert(input, directory.resolve("out.csv")))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("longer than the chunk size");
+    }
+
+    private static TransformerTemplate template() {
+        return DateFlow.template(INPUT_FORMAT, ZoneId.of("Europe/Warsaw"))
+                .as()
+                .zoneId(ZoneId.of("UTC"));
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.write(directory.resolve("in"), content.getBytes(UTF_8));
+    }
+
+    private static String read(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), UTF_8);
+    }
+}
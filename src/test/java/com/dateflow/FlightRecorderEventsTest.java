@@ -0,0 +1,116 @@
+package com.dateflow;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecorderEventsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRecordParseOutcomes() throws Exception {
+        //Given
+        DateParser parser = DateParser.of("yyyy-MM-dd", ZoneId.of("UTC"));
+
+        //When
+        List<RecordedEvent> events = record("dateflow.Parse", () -> {
+            parser.parse("2020-01-01");
+            assertThatThrownBy(() -> parser.parse("2020/01/01")).isInstanceOf(ParseException.class);
+        });
+
+        //Then
+        assertThat(events).extracting(it -> it.getString("outcome")).containsExactly("compiled", "failed");
+        assertThat(events).allSatisfy(it -> {
+            assertThat(it.getString("pattern")).isEqualTo("yyyy-MM-dd");
+            assertThat(it.getString("zone")).isEqualTo("UTC");
+            assertThat(it.getInt("inputLength")).isEqualTo(10);
+            assertThat(it.getStackTrace()).isNotNull();
+        });
+    }
+
+    @Test
+    void shouldRecordFormatOutcomes() throws Exception {
+        //Given
+        TransformerFlow transformer = DateFlow.from(0L).as();
+
+        //When
+        List<RecordedEvent> events = record("dateflow.Format", () -> {
+            transformer.string("yyyy-MM-dd");
+            transformer.formatTo("yyyy-MM-dd", new StringBuilder());
+        });
+
+        //Then
+        assertThat(events).extracting(it -> it.getString("outcome")).containsExactly("formatter", "fixedWidth");
+        assertThat(events).extracting(it -> it.getString("pattern")).containsOnly("yyyy-MM-dd");
+    }
+
+    @Test
+    void shouldRecordZoneFallbacks() throws Exception {
+        //Given
+        ZoneId zoneId = ZoneId.of("Europe/Berlin");
+
+        //When
+        List<RecordedEvent> events = record("dateflow.ZoneResolve", () -> new OperationsFlow(zoneId, TimeZone.getTimeZone(zoneId), 0, 0)
+                .plusMonths(1)
+                .as());
+
+        //Then
+        assertThat(events).extracting(it -> it.getString("source")).contains("rules");
+        assertThat(events).extracting(it -> it.getString("zone")).containsOnly("Europe/Berlin");
+    }
+
+    @Test
+    void shouldDropEventsBelowThreshold() throws Exception {
+        //Given
+        DateParser parser = DateParser.of("yyyy-MM-dd", ZoneId.of("UTC"));
+
+        //When
+        List<RecordedEvent> events = record("dateflow.Parse", Duration.ofHours(1), () -> parser.parse("2020-01-01"));
+
+        //Then
+        assertThat(events).isEmpty();
+    }
+
+    private List<RecordedEvent> record(String name, Action action) throws Exception {
+        return record(name, Duration.ZERO, action);
+    }
+
+    private List<RecordedEvent> record(String name, Duration threshold, Action action) throws Exception {
+        Path file = directory.resolve("events.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(name).withThreshold(threshold).withStackTrace();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return read(file, name);
+    }
+
+    private static List<RecordedEvent> read(Path file, String name) throws IOException {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(it -> it.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run() throws Exception;
+    }
+}
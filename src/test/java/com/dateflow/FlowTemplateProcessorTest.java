@@ -0,0 +1,252 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlowTemplateProcessorTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    @Test
+    void shouldConvertEveryElementInOrderOnExecutor() throws InterruptedException {
+        //Given
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "conversion"));
+        var template = DateFlow.template().plusDays(1).as().zoneId(UTC).localDate();
+        var processor = FlowTemplateProcessor.millis(template).executor(executor).batchSize(8);
+        var subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+
+        try (var publisher = new SubmissionPublisher<Long>()) {
+            publisher.subscribe(processor);
+
+            //When
+            for (long day = 0; day < 100; day++) {
+                publisher.submit(day * EpochMath.MILLIS_PER_DAY);
+            }
+        }
+        subscriber.awaitTermination();
+        executor.shutdown();
+
+        //Then
+        assertThat(subscriber.values).isEqualTo(LongStream.range(0, 100)
+                .mapToObj(day -> template.apply(day * EpochMath.MILLIS_PER_DAY))
+                .collect(Collectors.toList()));
+        assertThat(subscriber.threads).containsOnly("conversion");
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void shouldNeverExceedDownstreamDemand() {
+        //Given
+        var upstream = new RecordingSubscription();
+        var processor = FlowTemplateProcessor.instants(DateFlow.template().as().instant())
+                .executor(Runnable::run)
+                .batchSize(4);
+        var subscriber = new RecordingSubscriber<Instant>(3);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(upstream);
+
+        //When
+        for (int i = 0; i < 8; i++) {
+            processor.onNext(Instant.ofEpochSecond(i));
+        }
+
+        //Then
+        assertThat(subscriber.values).hasSize(3);
+        assertThat(upstream.requested).hasValue(8);
+
+        //When
+        subscriber.subscription.request(2);
+
+        //Then
+        assertThat(subscriber.values).hasSize(5);
+        assertThat(upstream.requested).hasValue(12);
+    }
+
+    @Test
+    void shouldBoundUpstreamRequestsWithoutDemand() {
+        //Given
+        var upstream = new RecordingSubscription();
+        var processor = FlowTemplateProcessor.millis(DateFlow.template().as().instant())
+                .executor(Runnable::run)
+                .batchSize(16);
+
+        //When
+        processor.onSubscribe(upstream);
+
+        //Then
+        assertThat(upstream.requested).hasValue(0);
+
+        //When
+        processor.subscribe(new RecordingSubscriber<>(0));
+
+        //Then
+        assertThat(upstream.requested).hasValue(32);
+    }
+
+    @Test
+    void shouldFailAndCancelUpstreamOnUnparseableText() {
+        //Given
+        var upstream = new RecordingSubscription();
+        var processor = FlowTemplateProcessor.strings(DateFlow.template("yyyy-MM-dd", UTC).as().instant())
+                .executor(Runnable::run);
+        var subscriber = new RecordingSubscriber<Instant>(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(upstream);
+
+        //When
+        processor.onNext("2021-12-04");
+        processor.onNext("04/12/2021");
+        processor.onNext("2021-12-05");
+
+        //Then
+        assertThat(subscriber.values).containsExactly(Instant.parse("2021-12-04T00:00:00Z"));
+        assertThat(subscriber.error).isInstanceOf(ParseException.class);
+        assertThat(upstream.cancelled).isTrue();
+    }
+
+    @Test
+    void shouldCompleteAfterBufferedElementsAreEmitted() {
+        //Given
+        var processor = FlowTemplateProcessor.millis(DateFlow.template().as().instant()).executor(Runnable::run);
+        var subscriber = new RecordingSubscriber<Instant>(0);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(new RecordingSubscription());
+        processor.onNext(0L);
+        processor.onComplete();
+
+        //When
+        subscriber.subscription.request(1);
+
+        //Then
+        assertThat(subscriber.values).containsExactly(Instant.EPOCH);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void shouldCancelUpstreamWhenDownstreamCancels() {
+        //Given
+        var upstream = new RecordingSubscription();
+        var processor = FlowTemplateProcessor.millis(DateFlow.template().as().instant()).executor(Runnable::run);
+        var subscriber = new RecordingSubscriber<Instant>(1);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(upstream);
+
+        //When
+        subscriber.subscription.cancel();
+        processor.onNext(0L);
+
+        //Then
+        assertThat(upstream.cancelled).isTrue();
+        assertThat(subscriber.values).isEmpty();
+    }
+
+    @Test
+    void shouldSignalErrorOnNonPositiveRequest() {
+        //Given
+        var upstream = new RecordingSubscription();
+        var processor = FlowTemplateProcessor.millis(DateFlow.template().as().instant()).executor(Runnable::run);
+        var subscriber = new RecordingSubscriber<Instant>(0);
+        processor.subscribe(subscriber);
+        processor.onSubscribe(upstream);
+
+        //When
+        subscriber.subscription.request(0);
+
+        //Then
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(upstream.cancelled).isTrue();
+    }
+
+    @Test
+    void shouldRejectSecondSubscriber() {
+        //Given
+        var processor = FlowTemplateProcessor.millis(DateFlow.template().as().instant()).executor(Runnable::run);
+        processor.subscribe(new RecordingSubscriber<>(0));
+        var second = new RecordingSubscriber<Instant>(0);
+
+        //When
+        processor.subscribe(second);
+
+        //Then
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static final class RecordingSubscription implements Flow.Subscription {
+
+        final AtomicLong requested = new AtomicLong();
+        volatile boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested.addAndGet(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        final List<T> values = new CopyOnWriteArrayList<>();
+        final List<String> threads = new ArrayList<>();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        private final long initialDemand;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        void awaitTermination() throws InterruptedException {
+            assertThat(terminated.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlowTemplateTest {
+
+    private static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final ZoneId WARSAW = ZoneId.of("Europe/Warsaw");
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1_615_680_000_000L, 1_616_889_599_999L, -86_400_001L, 4_102_444_800_000L})
+    void shouldMatchFlowForMillis(long millis) {
+        //Given
+        var template = DateFlow.template()
+                .minusDays(1)
+                .plusMonths(1)
+                .resetMidnightTime()
+                .plusHours(5)
+                .as()
+                .zoneId(WARSAW)
+                .string(DATE_FORMAT);
+
+        //When
+        var result = template.apply(millis);
+
+        //Then
+        assertThat(result).isEqualTo(DateFlow.from(millis)
+                .minusDays(1)
+                .plusMonths(1)
+                .resetMidnightTime()
+                .plusHours(5)
+                .as()
+                .zoneId(WARSAW)
+                .string(DATE_FORMAT));
+    }
+
+    @Test
+    void shouldMatchFlowForInstant() {
+        //Given
+        var instant = Instant.parse("2021-03-28T01:30:15.123456789Z");
+        var template = DateFlow.template()
+                .resetToLastMilliOfDay()
+                .minusMinutes(30)
+                .as()
+                .instant();
+
+        //When
+        var result = template.apply(instant);
+
+        //Then
+        assertThat(result).isEqualTo(DateFlow.from(instant)
+                .resetToLastMilliOfDay()
+                .minusMinutes(30)
+                .as()
+                .instant());
+    }
+
+    @Test
+    void shouldParseWithPreResolvedParser() throws ParseException {
+        //Given
+        var template = DateFlow.template(DATE_FORMAT, WARSAW)
+                .plusDays(2)
+                .as()
+                .zoneId(WARSAW)
+                .localDate();
+
+        //When
+        var result = template.apply("2021-03-27 12:30:00");
+
+        //Then
+        assertThat(result).isEqualTo(LocalDate.of(2021, 3, 29));
+    }
+
+    @Test
+    void shouldTryParseWithoutThrowing() throws ParseException {
+        //Given
+        var template = DateFlow.template(DATE_FORMAT, WARSAW)
+                .plusDays(2)
+                .as()
+                .zoneId(WARSAW)
+                .localDate();
+        var line = "id,2021-03-27 12:30:00,x";
+
+        //When
+        var parsed = template.tryApply(line, 3, 22);
+        var fromBytes = template.tryApply(line.getBytes(StandardCharsets.US_ASCII), 3, 22);
+        var rejected = template.tryApply("2021-03-27 xx:30:00");
+
+        //Then
+        assertThat(parsed).contains(template.apply("2021-03-27 12:30:00"));
+        assertThat(fromBytes).isEqualTo(parsed);
+        assertThat(rejected).isEmpty();
+    }
+
+    @Test
+    void shouldFailToParseWithoutDateFormat() {
+        //Given
+        var template = DateFlow.template()
+                .as()
+                .instant();
+
+        //Then
+        assertThatThrownBy(() -> template.apply("2021-03-27 23:30:00"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldNotChangeTemplateWhenExtended() {
+        //Given
+        var base = DateFlow.template().plusDays(1);
+        var instant = Instant.parse("2021-01-01T10:00:00Z");
+
+        //When
+        base.plusDays(5);
+        var result = base.as().instant().apply(instant);
+
+        //Then
+        assertThat(result).isEqualTo(Instant.parse("2021-01-02T10:00:00Z"));
+    }
+
+    @Test
+    void shouldExportFieldsInOutputZone() {
+        //Given
+        var base = DateFlow.template()
+                .as()
+                .zoneId(WARSAW);
+        var instant = Instant.parse("2021-12-31T23:15:30Z");
+
+        //Then
+        assertThat(base.year().apply(instant)).isEqualTo(2022);
+        assertThat(base.month().apply(instant)).isEqualTo(1);
+        assertThat(base.day().apply(instant)).isEqualTo(1);
+        assertThat(base.hour().apply(instant)).isZero();
+        assertThat(base.minutes().apply(instant)).isEqualTo(15);
+        assertThat(base.seconds().apply(instant)).isEqualTo(30);
+    }
+
+    @Test
+    void shouldBeSafeToShareBetweenThreads() throws Exception {
+        //Given
+        var template = DateFlow.template(DATE_FORMAT, WARSAW)
+                .minusDays(1)
+                .resetMidnightTime()
+                .as()
+                .zoneId(WARSAW)
+                .string(DATE_FORMAT);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int day = thread + 1;
+            tasks.add(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    String date = String.format("2021-03-%02d %02d:%02d:00", day, i % 24, i % 60);
+                    String expected = DateFlow.from(DateParser.of(DATE_FORMAT, WARSAW).parse(date))
+                            .minusDays(1)
+                            .resetMidnightTime()
+                            .as()
+                            .zoneId(WARSAW)
+                            .string(DATE_FORMAT);
+                    if (!template.apply(date).equals(expected)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+
+        //When
+        List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+
+        //Then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.dateflow.Constants.DATE_FORMAT;
+import static com.dateflow.Constants.TIME_ZONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FormatterCacheTest {
+
+    @Test
+    void shouldReturnSameFormatterForSameKey() {
+        //Given
+        var cache = new FormatterCache(4);
+        var zoneId = ZoneId.of(TIME_ZONE);
+
+        //When
+        var first = cache.formatter(DATE_FORMAT, zoneId, Locale.UK);
+        var second = cache.formatter(DATE_FORMAT, zoneId, Locale.UK);
+
+        //Then
+        assertThat(second).isSameAs(first);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeyByZoneAndLocale() {
+        //Given
+        var cache = new FormatterCache(4);
+
+        //When
+        var utc = cache.formatter(DATE_FORMAT, ZoneId.of(TIME_ZONE), Locale.UK);
+        var tokyo = cache.formatter(DATE_FORMAT, ZoneId.of("Asia/Tokyo"), Locale.UK);
+        var french = cache.formatter(DATE_FORMAT, ZoneId.of(TIME_ZONE), Locale.FRANCE);
+
+        //Then
+        assertThat(utc).isNotSameAs(tokyo).isNotSameAs(french);
+        assertThat(tokyo.format(Instant.parse("2021-12-09T23:33:43.715Z")))
+                .isEqualTo("2021-12-10T08:33:43.715Z");
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCountRegisteredPatternsAsHits() {
+        //Given
+        var cache = new FormatterCache(4);
+        var zoneId = ZoneId.of(TIME_ZONE);
+
+        //When
+        cache.register("uuuu-MM-dd", zoneId, Locale.UK)
+                .register(DATE_FORMAT, zoneId, Locale.UK);
+        cache.formatter("uuuu-MM-dd", zoneId, Locale.UK);
+
+        //Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    void shouldEvictUnreferencedEntriesWhenFull() {
+        //Given
+        var cache = new FormatterCache(2);
+        var zoneId = ZoneId.of(TIME_ZONE);
+        cache.formatter("uuuu", zoneId, Locale.UK);
+        cache.formatter("MM", zoneId, Locale.UK);
+        cache.formatter("uuuu", zoneId, Locale.UK);
+
+        //When
+        cache.formatter("dd", zoneId, Locale.UK);
+
+        //Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        cache.formatter("uuuu", zoneId, Locale.UK);
+        cache.formatter("dd", zoneId, Locale.UK);
+        assertThat(cache.hitCount()).isEqualTo(3);
+        assertThat(cache.missCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldStayBoundedUnderConcurrentAccess() throws InterruptedException {
+        //Given
+        var cache = new FormatterCache(8);
+        var zoneId = ZoneId.of(TIME_ZONE);
+        var executor = Executors.newFixedThreadPool(4);
+
+        //When
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    cache.formatter("'" + (i % 32) + "' uuuu", zoneId, Locale.UK);
+                }
+            });
+        }
+        executor.shutdown();
+
+        //Then
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(cache.size()).isLessThanOrEqualTo(8);
+        assertThat(cache.hitCount() + cache.missCount()).isEqualTo(4_000);
+    }
+
+    @Test
+    void shouldRejectNonPositiveSize() {
+        assertThatThrownBy(() -> new FormatterCache(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,196 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static com.dateflow.Constants.DATE_FORMAT;
+import static com.dateflow.IsoTimestampParser.SECONDS_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsoTimestampParserTest {
+
+    @Test
+    void shouldUnpackFields() {
+        //When
+        long fields = IsoTimestampParser.parse("2021-12-04T22:35:46.786Z", 0, 24, IsoTimestampParser.MILLIS);
+
+        //Then
+        assertThat(IsoTimestampParser.year(fields)).isEqualTo(2021);
+        assertThat(IsoTimestampParser.month(fields)).isEqualTo(12);
+        assertThat(IsoTimestampParser.day(fields)).isEqualTo(4);
+        assertThat(IsoTimestampParser.hour(fields)).isEqualTo(22);
+        assertThat(IsoTimestampParser.minute(fields)).isEqualTo(35);
+        assertThat(IsoTimestampParser.second(fields)).isEqualTo(46);
+        assertThat(IsoTimestampParser.milli(fields)).isEqualTo(786);
+    }
+
+    @Test
+    void shouldUnpackSecondPrecisionFields() {
+        //When
+        long fields = IsoTimestampParser.parse("1999-01-31T09:05:07Z", 0, 20, IsoTimestampParser.SECONDS);
+
+        //Then
+        assertThat(IsoTimestampParser.year(fields)).isEqualTo(1999);
+        assertThat(IsoTimestampParser.month(fields)).isEqualTo(1);
+        assertThat(IsoTimestampParser.day(fields)).isEqualTo(31);
+        assertThat(IsoTimestampParser.hour(fields)).isEqualTo(9);
+        assertThat(IsoTimestampParser.minute(fields)).isEqualTo(5);
+        assertThat(IsoTimestampParser.second(fields)).isEqualTo(7);
+        assertThat(IsoTimestampParser.milli(fields)).isZero();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "'2021-12-04T22:35:46.786Z '",
+            "2021-12-04T22:35:46.786",
+            "2021-12-04 22:35:46.786Z",
+            "2021-12-04T22:35:46,786Z",
+            "2021/12/04T22:35:46.786Z",
+            "2021-1a-04T22:35:46.786Z",
+            "2021-12-04T22:35:4:.786Z",
+            "2021-12-04T22:35:46.78/Z",
+            "20\uFF121-12-04T22:35:46.786Z",
+            "2021-12-04T22:35:46.786z",
+            "+021-12-04T22:35:46.786Z"})
+    void shouldRejectTextOutsideLayout(String date) {
+        //When
+        long fields = IsoTimestampParser.parse(date, 0, date.length(), IsoTimestampParser.MILLIS);
+
+        //Then
+        assertThat(fields).isEqualTo(IsoTimestampParser.INVALID);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+            "2021-12-04T22:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-12-04T22:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|Australia/Sydney",
+            "2020-02-29T00:00:00.000Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-02-29T00:00:00.000Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-13-04T22:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-12-04T24:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "1900-12-04T22:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-03-28T02:30:00.000Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|Europe/Warsaw",
+            "2021-10-31T02:30:00.000Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|Europe/Warsaw",
+            "2021-12-04T22:35:46.7Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-12-04T22:35:46Z|yyyy-MM-dd'T'HH:mm:ss'Z'|UTC",
+            "2021-12-04T22:35:46Z|yyyy-MM-dd'T'HH:mm:ss'Z'|America/New_York",
+            "2021-12-04T22:35:60Z|yyyy-MM-dd'T'HH:mm:ss'Z'|UTC",
+            "2021-99-01T00:00:00.000Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-02-33T00:00:00.000Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-01-01T99:00:00.000Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-01-01T00:99:00.000Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-01-01T00:00:99.000Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "2021-01-01T00:00:99Z|yyyy-MM-dd'T'HH:mm:ss'Z'|UTC",
+            "2021-01-01T00:99:00Z|yyyy-MM-dd'T'HH:mm:ss'Z'|Europe/Warsaw",
+            "2021-12-4T22:35:46Z|yyyy-MM-dd'T'HH:mm:ss'Z'|UTC"})
+    void shouldParseLikeStrictSimpleDateFormat(String date, String pattern, String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        var parser = DateParser.of(pattern, zoneId, Locale.UK);
+        var bytes = date.getBytes(StandardCharsets.US_ASCII);
+        var bigEndian = ByteBuffer.wrap(bytes);
+        var littleEndian = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.LITTLE_ENDIAN).put(bytes);
+
+        //When
+        Long expected = strictParse(date, pattern, zoneId);
+
+        //Then
+        assertThat(parse(parser, date)).isEqualTo(expected);
+        assertThat(parse(parser, new StringBuilder(date))).isEqualTo(expected);
+        assertThat(tryParse(parser, bytes)).isEqualTo(expected);
+        assertThat(tryParse(parser, bigEndian)).isEqualTo(expected);
+        assertThat(tryParse(parser, littleEndian)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldParseRandomInstantsLikeStrictSimpleDateFormat() {
+        //Given
+        var random = new Random(42);
+        var zoneId = ZoneId.of("Europe/Warsaw");
+
+        for (String pattern : new String[]{DATE_FORMAT, SECONDS_FORMAT}) {
+            var parser = DateParser.of(pattern, zoneId, Locale.UK);
+            var format = new SimpleDateFormat(pattern, Locale.UK);
+            format.setTimeZone(TimeZone.getTimeZone(zoneId));
+            for (int i = 0; i < 10_000; i++) {
+                //When
+                var date = format.format(new Date(random.nextLong() % 4_102_444_800_000L + 1_000_000_000_000L));
+
+                //Then
+                assertThat(parse(parser, date)).as(date).isEqualTo(strictParse(date, pattern, zoneId));
+            }
+        }
+    }
+
+    @Test
+    void shouldParseMutatedTimestampsLikeStrictSimpleDateFormat() {
+        //Given
+        var random = new Random(21);
+        var mutations = "0123456789-:.TZ x";
+
+        for (String zone : new String[]{"UTC", "Europe/Warsaw", "America/New_York", "Asia/Kathmandu"}) {
+            var zoneId = ZoneId.of(zone);
+            for (String pattern : new String[]{DATE_FORMAT, SECONDS_FORMAT}) {
+                var parser = DateParser.of(pattern, zoneId, Locale.UK);
+                var format = new SimpleDateFormat(pattern, Locale.UK);
+                format.setTimeZone(TimeZone.getTimeZone(zoneId));
+                for (int i = 0; i < 5_000; i++) {
+                    var chars = format.format(new Date(random.nextLong() % 4_102_444_800_000L + 1_000_000_000_000L)).toCharArray();
+                    for (int mutation = 1 + random.nextInt(2); mutation > 0; mutation--) {
+                        chars[random.nextInt(chars.length)] = mutations.charAt(random.nextInt(mutations.length()));
+                    }
+
+                    //When
+                    var date = new String(chars);
+
+                    //Then
+                    assertThat(parse(parser, date)).as(date).isEqualTo(strictParse(date, pattern, zoneId));
+                }
+            }
+        }
+    }
+
+    private static Long parse(DateParser parser, CharSequence date) {
+        try {
+            return parser.parse(date);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private static Long tryParse(DateParser parser, byte[] date) {
+        var position = new ParsePosition(0);
+        long millis = parser.tryParse(date, 0, date.length, position);
+        return position.getErrorIndex() < 0 ? millis : null;
+    }
+
+    private static Long tryParse(DateParser parser, ByteBuffer date) {
+        var position = new ParsePosition(0);
+        long millis = parser.tryParse(date, 0, date.limit(), position);
+        return position.getErrorIndex() < 0 ? millis : null;
+    }
+
+    private static Long strictParse(String date, String pattern, ZoneId zoneId) {
+        var format = new SimpleDateFormat(pattern, Locale.UK);
+        format.setTimeZone(TimeZone.getTimeZone(zoneId));
+        format.setLenient(false);
+        try {
+            return format.parse(date).getTime();
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MillisSpliteratorTest {
+
+    @Test
+    void shouldSplitOnChunkBoundaries() {
+        //Given
+        var spliterator = new MillisSpliterator(new long[1_000], 0, 1_000, 64);
+        List<MillisSpliterator> pending = new ArrayList<>(List.of(spliterator));
+        List<MillisSpliterator> leaves = new ArrayList<>();
+
+        //When
+        while (!pending.isEmpty()) {
+            var current = pending.remove(pending.size() - 1);
+            var prefix = current.trySplit();
+            if (prefix == null) {
+                leaves.add(current);
+            } else {
+                pending.add(prefix);
+                pending.add(current);
+            }
+        }
+
+        //Then
+        leaves.sort((a, b) -> Integer.compare(a.origin(), b.origin()));
+        int expectedOrigin = 0;
+        for (MillisSpliterator leaf : leaves) {
+            assertThat(leaf.origin()).isEqualTo(expectedOrigin);
+            assertThat(leaf.origin() % 64).isZero();
+            assertThat(leaf.estimateSize()).isLessThan(128);
+            expectedOrigin = leaf.fence();
+        }
+        assertThat(expectedOrigin).isEqualTo(1_000);
+    }
+
+    @Test
+    void shouldNotSplitBelowTwoChunks() {
+        assertThat(new MillisSpliterator(new long[127], 0, 127, 64).trySplit()).isNull();
+    }
+
+    @Test
+    void shouldStreamAllValuesInOrder() {
+        //Given
+        var millis = new long[10_000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = i;
+        }
+
+        //When
+        var result = StreamSupport.longStream(new MillisSpliterator(millis, 0, millis.length, 64), true).toArray();
+
+        //Then
+        assertThat(result).containsExactly(millis);
+    }
+}
@@ -0,0 +1,163 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static com.dateflow.Constants.DATE_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultiPatternParserTest {
+
+    private static final ZoneId WARSAW = ZoneId.of("Europe/Warsaw");
+    private static final List<String> PATTERNS = List.of(DATE_FORMAT, "yyyy-MM-dd HH:mm:ss", "dd/MMM/yyyy HH:mm", "yyyyMMdd");
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+            "2021-12-04T22:35:46.786Z|yyyy-MM-dd'T'HH:mm:ss.SSS'Z'",
+            "2021-12-04 22:35:46|yyyy-MM-dd HH:mm:ss",
+            "04/Dec/2021 10:15|dd/MMM/yyyy HH:mm",
+            "20211204|yyyyMMdd",
+            "2021-3-27 2:30:00|yyyy-MM-dd HH:mm:ss"})
+    void shouldParseWithMatchingPattern(String date, String pattern) throws ParseException {
+        //Given
+        var parser = MultiPatternParser.of(PATTERNS, WARSAW, Locale.UK);
+
+        //When
+        long result = parser.parse(date);
+
+        //Then
+        assertThat(result).isEqualTo(DateParser.of(pattern, WARSAW, Locale.UK).parse(date));
+        assertThat(parser.stats().matches()).containsEntry(pattern, 1L);
+    }
+
+    @Test
+    void shouldRequireWholeTextToBeParsed() throws ParseException {
+        //Given
+        var parser = MultiPatternParser.of(List.of("yyyy-MM-dd", "yyyy-MM-dd HH:mm"), WARSAW, Locale.UK);
+
+        //When
+        long result = parser.parse("2021-12-04 22:35");
+
+        //Then
+        assertThat(result).isEqualTo(DateParser.of("yyyy-MM-dd HH:mm", WARSAW, Locale.UK).parse("2021-12-04 22:35"));
+    }
+
+    @Test
+    void shouldTryRecentPatternFirst() throws ParseException {
+        //Given
+        var parser = MultiPatternParser.of(PATTERNS, WARSAW, Locale.UK);
+
+        //When
+        parser.parse("20211204");
+        for (int i = 0; i < 99; i++) {
+            parser.parse("20211205");
+        }
+        MultiPatternParser.Stats stats = parser.stats();
+
+        //Then
+        assertThat(stats.rows()).isEqualTo(100);
+        assertThat(stats.attemptsPerRow()[1]).isEqualTo(100);
+        assertThat(stats.meanAttempts()).isEqualTo(1.0);
+        assertThat(stats.matches()).containsEntry("yyyyMMdd", 100L);
+        assertThat(stats.screened()).isPositive();
+    }
+
+    @Test
+    void shouldOrderFallbackPatternsByMatches() throws ParseException {
+        //Given
+        var parser = MultiPatternParser.of(List.of("yyyy-dd-MM", "dd-MM-yyyy", "yyyy-MM-dd"), WARSAW, Locale.UK);
+        parser.parse("2021-12-31");
+        parser.parse("2021-12-30");
+        parser.parse("31-12-2021");
+
+        //When
+        parser.parse("2021-12-29");
+        long[] attempts = parser.stats().attemptsPerRow();
+
+        //Then
+        assertThat(attempts).containsExactly(0, 1, 1, 2);
+    }
+
+    @Test
+    void shouldAcceptEveryRowWhileReorderingConcurrently() {
+        //Given
+        var parser = MultiPatternParser.of(PATTERNS, WARSAW, Locale.UK);
+        var rows = List.of("2021-12-04T22:35:46.786Z", "2021-12-04 22:35:46", "04/Dec/2021 10:15", "20211204");
+
+        //When
+        long rejected = IntStream.range(0, 40_000)
+                .parallel()
+                .mapToLong(i -> parser.tryParse(rows.get(i * 7 % 13 % rows.size()), new ParsePosition(0)))
+                .filter(millis -> millis == DateParser.INVALID)
+                .count();
+
+        //Then
+        assertThat(rejected).isZero();
+        assertThat(parser.stats().failures()).isZero();
+    }
+
+    @Test
+    void shouldReportFailureThroughPosition() {
+        //Given
+        var parser = MultiPatternParser.of(List.of("yyyy-MM-dd", "yyyy-MM-dd HH:mm"), WARSAW, Locale.UK);
+        var position = new ParsePosition(0);
+
+        //When
+        long result = parser.tryParse("id 2021-12-04 2x:35", 3, 19, position);
+
+        //Then
+        assertThat(result).isEqualTo(DateParser.INVALID);
+        assertThat(position.getIndex()).isEqualTo(3);
+        assertThat(position.getErrorIndex()).isEqualTo(15);
+        assertThat(parser.stats().failures()).isEqualTo(1);
+        assertThatThrownBy(() -> parser.parse("2021-12-04 2x:35"))
+                .isInstanceOf(ParseException.class)
+                .hasMessage("Unparseable date: \"2021-12-04 2x:35\"");
+    }
+
+    @Test
+    void shouldScreenOutPatternsWithoutAttempting() {
+        //Given
+        var parser = MultiPatternParser.of(List.of("yyyy-MM-dd", "dd/MM/yyyy"), WARSAW, Locale.UK);
+        var position = new ParsePosition(0);
+
+        //When
+        parser.tryParse("N/A", position);
+
+        //Then
+        assertThat(position.getErrorIndex()).isZero();
+        assertThat(parser.stats().attemptsPerRow()[0]).isEqualTo(1);
+        assertThat(parser.stats().screened()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCreateFlowFromAnyPattern() throws ParseException {
+        //Given
+        var parser = MultiPatternParser.of(PATTERNS, ZoneId.of("UTC"), Locale.UK);
+
+        //When
+        var fromIso = DateFlow.from("2021-12-04T22:35:46.786Z", parser);
+        var fromCompact = DateFlow.tryFrom("20211204", parser);
+        var rejected = DateFlow.tryFrom("yesterday", parser);
+
+        //Then
+        assertThat(fromIso.instant()).isEqualTo("2021-12-04T22:35:46.786Z");
+        assertThat(fromCompact.map(OperationsFlow::instant)).contains(java.time.Instant.parse("2021-12-04T00:00:00Z"));
+        assertThat(rejected).isEmpty();
+    }
+
+    @Test
+    void shouldRejectEmptyPatterns() {
+        assertThatThrownBy(() -> MultiPatternParser.of(List.of(), WARSAW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,10 +1,21 @@
 package com.dateflow;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.time.Instant;
 import java.time.Month;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static com.dateflow.Constants.TIME_ZONE;
 import static com.dateflow.DateFlowTest.assertBaseDateFlow;
@@ -21,7 +32,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it -> {
                     assertThat(it.atZone(ZoneOffset.UTC).getSecond()).isZero();
@@ -39,7 +50,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it -> {
                     assertThat(it.atZone(ZoneOffset.UTC).getSecond()).isEqualTo(59);
@@ -57,7 +68,7 @@ class OperationsFlowTest {
         //Then
         assertThat(daoperationsFloweFlow).isNotNull();
         assertBaseDateFlow(daoperationsFloweFlow);
-        assertThat(daoperationsFloweFlow.instant)
+        assertThat(daoperationsFloweFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(daoperationsFloweFlow.zoneId).getMonth())
@@ -73,7 +84,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(operationsFlow.zoneId).getDayOfMonth())
@@ -89,7 +100,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(operationsFlow.zoneId).getMinute())
@@ -105,7 +116,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(operationsFlow.zoneId).getHour())
@@ -121,7 +132,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(operationsFlow.zoneId).getSecond())
@@ -137,7 +148,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(operationsFlow.zoneId).getSecond())
@@ -153,7 +164,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(operationsFlow.zoneId).getMinute())
@@ -169,7 +180,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(operationsFlow.zoneId).getHour())
@@ -185,7 +196,7 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(operationsFlow.zoneId).getDayOfMonth())
@@ -201,13 +212,112 @@ class OperationsFlowTest {
         //Then
         assertThat(operationsFlow).isNotNull();
         assertBaseDateFlow(operationsFlow);
-        assertThat(operationsFlow.instant)
+        assertThat(operationsFlow.instant())
                 .isNotNull()
                 .satisfies(it ->
                         assertThat(it.atZone(operationsFlow.zoneId).getMonth())
                                 .isEqualTo(Month.OCTOBER));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "UTC,2021-01-31T22:35:46.786123Z",
+            "+05:30,2021-01-31T20:35:46.786Z",
+            "-09:30,1969-12-31T23:59:59.999Z",
+            "Europe/London,2021-03-27T01:30:00Z",
+            "America/New_York,2021-11-06T05:30:00.5Z"})
+    void shouldMatchZonedDateTimeArithmetic(String zone, String date) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        var start = Instant.parse(date).atZone(zoneId);
+
+        //Then
+        assertOperation(zoneId, start, it -> it.plusMonths(1), start.plusMonths(1));
+        assertOperation(zoneId, start, it -> it.minusMonths(14), start.minusMonths(14));
+        assertOperation(zoneId, start, it -> it.plusDays(1), start.plusDays(1));
+        assertOperation(zoneId, start, it -> it.minusDays(400), start.minusDays(400));
+        assertOperation(zoneId, start, it -> it.plusHours(25), start.plusHours(25));
+        assertOperation(zoneId, start, it -> it.minusMinutes(61), start.minusMinutes(61));
+        assertOperation(zoneId, start, it -> it.plusSeconds(3_601), start.plusSeconds(3_601));
+        assertOperation(zoneId, start, OperationsFlow::resetMidnightTime, start.truncatedTo(ChronoUnit.DAYS));
+        assertOperation(zoneId, start, OperationsFlow::resetToLastMilliOfDay,
+                start.withHour(23).withMinute(59).withSecond(59));
+    }
+
+    @ParameterizedTest
+    @MethodSource("randomChains")
+    void shouldMatchEagerEvaluationForRandomChains(String zone, long seed) {
+        //Given
+        var random = new Random(seed);
+        var zoneId = ZoneId.of(zone);
+        var start = Instant.ofEpochSecond(random.nextLong() % 4_000_000_000L, random.nextInt(1_000_000_000));
+        var operationsFlow = new OperationsFlow();
+        operationsFlow.zoneId = zoneId;
+        operationsFlow.instant(start);
+        var expected = start.atZone(zoneId);
+
+        //When
+        for (int step = 1 + random.nextInt(12); step > 0; step--) {
+            switch (random.nextInt(12)) {
+                case 0:
+                    int months = random.nextInt(61) - 30;
+                    operationsFlow.plusMonths(months);
+                    expected = expected.plusMonths(months);
+                    break;
+                case 1:
+                    operationsFlow.minusMonths(3);
+                    expected = expected.minusMonths(3);
+                    break;
+                case 2:
+                    int days = random.nextInt(801) - 400;
+                    operationsFlow.plusDays(days);
+                    expected = expected.plusDays(days);
+                    break;
+                case 3:
+                    operationsFlow.minusDays(31);
+                    expected = expected.minusDays(31);
+                    break;
+                case 4:
+                    int hours = random.nextInt(201) - 100;
+                    operationsFlow.plusHours(hours);
+                    expected = expected.plusHours(hours);
+                    break;
+                case 5:
+                    operationsFlow.minusHours(5);
+                    expected = expected.minusHours(5);
+                    break;
+                case 6:
+                    int minutes = random.nextInt(20_001) - 10_000;
+                    operationsFlow.plusMinutes(minutes);
+                    expected = expected.plusMinutes(minutes);
+                    break;
+                case 7:
+                    operationsFlow.minusMinutes(15);
+                    expected = expected.minusMinutes(15);
+                    break;
+                case 8:
+                    int seconds = random.nextInt(200_001) - 100_000;
+                    operationsFlow.plusSeconds(seconds);
+                    expected = expected.plusSeconds(seconds);
+                    break;
+                case 9:
+                    operationsFlow.minusSeconds(59);
+                    expected = expected.minusSeconds(59);
+                    break;
+                case 10:
+                    operationsFlow.resetMidnightTime();
+                    expected = expected.truncatedTo(ChronoUnit.DAYS);
+                    break;
+                default:
+                    operationsFlow.resetToLastMilliOfDay();
+                    expected = expected.withHour(23).withMinute(59).withSecond(59);
+            }
+        }
+
+        //Then
+        assertThat(operationsFlow.instant()).isEqualTo(expected.toInstant());
+    }
+
     @Test
     void shouldReturnTransformerFlow() {
         //When
@@ -217,16 +327,30 @@ class OperationsFlowTest {
         assertThat(transformerFlow)
                 .isNotNull()
                 .satisfies((it) -> {
-                    assertThat(it.instant).isEqualTo(Instant.parse("2021-12-04T22:35:46.786Z"));
+                    assertThat(it.instant()).isEqualTo(Instant.parse("2021-12-04T22:35:46.786Z"));
                     assertThat(it.zoneId.toString()).hasToString(TIME_ZONE);
                     assertThat(it.outputZoneId.toString()).hasToString(TIME_ZONE);
                     assertThat(it.timeZone).isNotNull();
                 });
     }
 
+    static Stream<Arguments> randomChains() {
+        return Stream.of("UTC", "+05:30", "-09:30", "Europe/London", "America/New_York", "Australia/Lord_Howe")
+                .flatMap(zone -> LongStream.range(0, 200).mapToObj(seed -> Arguments.of(zone, seed)));
+    }
+
+    private static void assertOperation(ZoneId zoneId, ZonedDateTime start,
+                                        UnaryOperator<OperationsFlow> operation, ZonedDateTime expected) {
+        var operationsFlow = new OperationsFlow();
+        operationsFlow.zoneId = zoneId;
+        operationsFlow.instant(start.toInstant());
+
+        assertThat(operation.apply(operationsFlow).instant()).isEqualTo(expected.toInstant());
+    }
+
     private OperationsFlow getOperationsFlow() {
         OperationsFlow operationsFlow = new OperationsFlow();
-        operationsFlow.instant = Instant.parse("2021-12-04T22:35:46.786Z");
+        operationsFlow.instant(Instant.parse("2021-12-04T22:35:46.786Z"));
         return operationsFlow;
     }
 
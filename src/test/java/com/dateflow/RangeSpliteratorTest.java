@@ -0,0 +1,165 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RangeSpliteratorTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "2021-01-01T00:00:00Z, 2021-01-01T00:00:00Z, PT15M, 0",
+            "2021-01-01T00:00:00Z, 2021-01-01T01:00:00Z, PT15M, 4",
+            "2021-01-01T00:00:00Z, 2021-01-01T01:00:00.001Z, PT15M, 5",
+            "2021-01-01T01:00:00Z, 2021-01-01T00:00:00Z, PT15M, 0",
+            "2021-01-01T00:00:00Z, 2022-01-01T00:00:00Z, PT1H, 8760"
+    })
+    void shouldCountFixedSteps(String from, String to, String step, long expected) {
+        //When
+        long result = DateFlow.range(Instant.parse(from), Instant.parse(to), Duration.parse(step)).count();
+
+        //Then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldStepFixedDurationsThroughDaylightSavingChange() {
+        //When
+        long[] result = DateFlow.range(Instant.parse("2021-03-28T00:30:00Z"), Instant.parse("2021-03-28T02:00:00Z"),
+                Duration.ofMinutes(30), ZoneId.of("Europe/Warsaw")).toArray();
+
+        //Then
+        assertThat(result).containsExactly(
+                Instant.parse("2021-03-28T00:30:00Z").toEpochMilli(),
+                Instant.parse("2021-03-28T01:00:00Z").toEpochMilli(),
+                Instant.parse("2021-03-28T01:30:00Z").toEpochMilli());
+    }
+
+    @Test
+    void shouldKeepWallClockTimeForDailySteps() {
+        //Given
+        var zoneId = ZoneId.of("Europe/Warsaw");
+        var from = LocalDateTime.parse("2021-03-26T09:00:00").atZone(zoneId).toInstant();
+        var to = LocalDateTime.parse("2021-03-30T00:00:00").atZone(zoneId).toInstant();
+
+        //When
+        long[] result = DateFlow.range(from, to, Period.ofDays(1), zoneId).toArray();
+
+        //Then
+        assertThat(result).containsExactly(
+                Instant.parse("2021-03-26T08:00:00Z").toEpochMilli(),
+                Instant.parse("2021-03-27T08:00:00Z").toEpochMilli(),
+                Instant.parse("2021-03-28T07:00:00Z").toEpochMilli(),
+                Instant.parse("2021-03-29T07:00:00Z").toEpochMilli());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTC", "Europe/Warsaw", "America/New_York", "Australia/Lord_Howe", "America/Sao_Paulo",
+            "Pacific/Apia", "Africa/Casablanca", "Asia/Kathmandu"})
+    void shouldMatchZonedDateTimePlusPeriod(String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        var random = new SplittableRandom(zone.hashCode());
+        var periods = List.of(Period.ofDays(1), Period.ofDays(7), Period.ofMonths(1), Period.of(0, 1, 3), Period.ofYears(1));
+
+        for (int i = 0; i < 200; i++) {
+            var period = periods.get(random.nextInt(periods.size()));
+            var from = Instant.ofEpochSecond(random.nextLong(0, 2_000_000_000L), random.nextInt(1_000) * 1_000_000);
+            var to = from.plus(random.nextInt(1, 3_000), ChronoUnit.DAYS);
+
+            //When
+            long[] result = DateFlow.range(from, to, period, zoneId).toArray();
+
+            //Then
+            assertThat(result).containsExactly(expected(from, to, period, zoneId));
+        }
+    }
+
+    @Test
+    void shouldStartInsideDaylightSavingOverlap() {
+        //Given
+        var zoneId = ZoneId.of("America/New_York");
+        var from = Instant.parse("2021-11-07T06:30:00Z");
+        var to = Instant.parse("2021-11-10T00:00:00Z");
+
+        //When
+        long[] result = DateFlow.range(from, to, Period.ofDays(1), zoneId).toArray();
+
+        //Then
+        assertThat(result).containsExactly(expected(from, to, Period.ofDays(1), zoneId));
+    }
+
+    @Test
+    void shouldSplitIntoWholeRange() {
+        //Given
+        var spliterator = RangeSpliterator.of(Instant.parse("2021-01-01T00:00:00Z"), Instant.parse("2022-01-01T00:00:00Z"),
+                Period.ofDays(1), ZoneId.of("Europe/Warsaw"));
+
+        //When
+        var prefix = spliterator.trySplit();
+
+        //Then
+        assertThat(prefix.estimateSize()).isEqualTo(182);
+        assertThat(spliterator.estimateSize()).isEqualTo(183);
+        assertThat(DateFlow.range(Instant.parse("2021-01-01T00:00:00Z"), Instant.parse("2022-01-01T00:00:00Z"),
+                Period.ofDays(1), ZoneId.of("Europe/Warsaw")).parallel().toArray())
+                .containsExactly(DateFlow.range(Instant.parse("2021-01-01T00:00:00Z"),
+                        Instant.parse("2022-01-01T00:00:00Z"), Period.ofDays(1), ZoneId.of("Europe/Warsaw")).toArray());
+    }
+
+    @Test
+    void shouldSumParallelFixedRange() {
+        //When
+        long result = DateFlow.range(Instant.ofEpochMilli(0), Instant.ofEpochMilli(10_000_000), Duration.ofMillis(3))
+                .parallel()
+                .sum();
+
+        //Then
+        assertThat(result).isEqualTo(LongStream.range(0, 10_000_000).filter(it -> it % 3 == 0).sum());
+    }
+
+    @Test
+    void shouldRejectInvalidSteps() {
+        //Given
+        var from = Instant.parse("2021-01-01T00:00:00Z");
+        var to = Instant.parse("2022-01-01T00:00:00Z");
+        var zoneId = ZoneId.of("UTC");
+
+        //Then
+        assertThatThrownBy(() -> DateFlow.range(from, to, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DateFlow.range(from, to, Duration.ofNanos(1_500_000))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DateFlow.range(from, to, Period.of(0, 1, -1), zoneId)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DateFlow.range(from, to, Period.ZERO, zoneId)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DateFlow.range(from, to, ChronoUnit.DAYS.getDuration().negated(), zoneId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long[] expected(Instant from, Instant to, Period period, ZoneId zoneId) {
+        var start = from.atZone(zoneId);
+        List<Long> millis = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            ZonedDateTime next = start.plus(period.multipliedBy(i));
+            if (!next.toInstant().isBefore(to)) {
+                break;
+            }
+            millis.add(next.toInstant().toEpochMilli());
+        }
+        return millis.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,102 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReusableFlowTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "1638657346786, 1",
+            "-1, -3",
+            "0, 31",
+            "1709164800000, 365"
+    })
+    void shouldMatchNewFlow(long millis, int days) {
+        //Given
+        var flow = new ReusableFlow();
+
+        //When
+        LocalDate result = flow.reset(millis).plusDays(days).resetMidnightTime().as().localDate();
+
+        //Then
+        assertThat(result).isEqualTo(DateFlow.from(millis).plusDays(days).resetMidnightTime().as().localDate());
+    }
+
+    @Test
+    void shouldDropPendingOperationsOnReset() {
+        //Given
+        var flow = new ReusableFlow();
+        flow.reset(Instant.parse("2021-12-04T22:35:46.786Z")).plusMonths(5).plusHours(3);
+
+        //When
+        Instant result = flow.reset(Instant.parse("2020-01-01T00:00:00Z")).plusDays(1).as().instant();
+
+        //Then
+        assertThat(result).isEqualTo(Instant.parse("2020-01-02T00:00:00Z"));
+    }
+
+    @Test
+    void shouldReuseTransformerWithUtcOutput() {
+        //Given
+        var flow = new ReusableFlow();
+        TransformerFlow first = flow.reset(0).as().zoneId(ZoneId.of("Asia/Tokyo"));
+        assertThat(first.hour()).isEqualTo(9);
+
+        //When
+        TransformerFlow second = flow.reset(3_600_000).as();
+
+        //Then
+        assertThat(second).isSameAs(first);
+        assertThat(second.hour()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResetFromText() throws ParseException {
+        //Given
+        var flow = ReusableFlow.of("yyyy-MM-dd HH:mm", ZoneId.of("Europe/Warsaw"));
+
+        //When
+        Instant result = flow.reset("x2021-12-04 22:35y", 1, 17).plusMinutes(5).as().instant();
+
+        //Then
+        assertThat(result).isEqualTo(Instant.parse("2021-12-04T21:40:00Z"));
+    }
+
+    @Test
+    void shouldRejectUnparseableText() {
+        //Given
+        var flow = ReusableFlow.of("yyyy-MM-dd HH:mm", ZoneId.of("UTC"));
+
+        //Then
+        assertThatThrownBy(() -> flow.reset("2021-12-04 2x:35"))
+                .isInstanceOf(ParseException.class)
+                .extracting(it -> ((ParseException) it).getErrorOffset())
+                .isEqualTo(12);
+        assertThatThrownBy(() -> new ReusableFlow().reset("2021-12-04 22:35"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldKeepOneFlowPerThread() throws Exception {
+        //Given
+        ReusableFlow current = ReusableFlow.perThread();
+
+        //When
+        ReusableFlow other = CompletableFuture.supplyAsync(ReusableFlow::perThread).get();
+
+        //Then
+        assertThat(ReusableFlow.perThread()).isSameAs(current);
+        assertThat(other).isNotSameAs(current);
+    }
+}
@@ -3,14 +3,26 @@ package com.dateflow;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-
+import org.junitpioneer.jupiter.DefaultLocale;
+import org.junitpioneer.jupiter.DefaultTimeZone;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Date;
+import java.util.SplittableRandom;
 import java.util.TimeZone;
 
+import static com.dateflow.Constants.DATE_FORMAT;
 import static com.dateflow.Constants.TIME_ZONE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TransformerFlowTest {
 
@@ -34,6 +46,45 @@ class TransformerFlowTest {
                 .hasSecond(46);
     }
 
+    @ParameterizedTest
+    @DefaultTimeZone("America/New_York")
+    @CsvSource({
+            "2021-12-04T22:35:46.786Z,Asia/Tokyo,2021-12-05T12:35:46.786Z",
+            "2021-03-14T02:30:00.000Z,Europe/London,2021-03-14T07:30:00Z",
+            "2021-11-07T01:30:00.000Z,Europe/London,2021-11-07T06:30:00Z",
+            "1850-06-01T12:00:00.000Z,Asia/Tokyo,1850-06-02T02:00:00Z"
+    })
+    void shouldReturnDateShiftedToDefaultZoneWallClock(String currentDate, String outputZone, String expected) throws ParseException {
+        //Given
+        ZoneId zoneId = ZoneId.of(TIME_ZONE);
+
+        //When
+        var result = getTransformerFlow(zoneId, currentDate)
+                .zoneId(ZoneId.of(outputZone))
+                .date();
+
+        //Then
+        assertThat(result.toInstant()).isEqualTo(expected);
+    }
+
+    @Test
+    @DefaultTimeZone("Europe/Warsaw")
+    void shouldReturnDateLikeRoundTripAfterLastTimeZoneTransitionYear() throws ParseException {
+        //Given
+        var outputZone = ZoneId.of("Africa/Casablanca");
+        var parser = new SimpleDateFormat(DATE_FORMAT);
+        var formatter = new SimpleDateFormat(DATE_FORMAT);
+        formatter.setTimeZone(TimeZone.getTimeZone(outputZone));
+
+        for (long millis = 2_145_830_400_000L; millis < 2_240_611_200_000L; millis += 7 * 3_600_000L) {
+            //When
+            var result = DateFlow.from(millis).as().zoneId(outputZone).date();
+
+            //Then
+            assertThat(result).isEqualTo(parser.parse(formatter.format(new Date(millis))));
+        }
+    }
+
     @Test
     void shouldReturnInstant() {
         //Given
@@ -191,6 +242,104 @@ class TransformerFlowTest {
                 .isEqualTo(46);
     }
 
+    @Test
+    void shouldGetAllFields() {
+        //Given
+        ZoneId zoneId = ZoneId.of(TIME_ZONE);
+        String currentDate = "2021-12-04T22:35:46.786Z";
+
+        //When
+        var result = getTransformerFlow(zoneId, currentDate)
+                .zoneId(ZoneId.of("Asia/Tokyo"))
+                .fields();
+
+        //Then
+        assertThat(result).isEqualTo(new DateFields(2021, 12, 5, 7, 35, 46, 786_000_000));
+    }
+
+    @Test
+    @DefaultLocale("ar-EG")
+    void shouldPrintFieldsWithAsciiDigitsWhateverTheDefaultLocale() {
+        //Given
+        var fields = new DateFields(2021, 12, 5, 7, 35, 46, 786_000_000);
+
+        //When
+        String result = fields.toString();
+
+        //Then
+        assertThat(result).isEqualTo("2021-12-05T07:35:46.786000000");
+    }
+
+    @Test
+    void shouldFillReusableFields() {
+        //Given
+        ZoneId zoneId = ZoneId.of(TIME_ZONE);
+        var target = new MutableDateFields();
+
+        //When
+        getTransformerFlow(zoneId, "2021-12-04T22:35:46.786Z").fields(target);
+        var result = getTransformerFlow(zoneId, "1969-12-31T23:59:59.000000001Z").fields(target);
+
+        //Then
+        assertThat(result).isSameAs(target);
+        assertThat(result.toDateFields()).isEqualTo(new DateFields(1969, 12, 31, 23, 59, 59, 1));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+            "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'|UTC",
+            "yyyy-MM-dd HH:mm:ss|Europe/Warsaw",
+            "yyyyMMddHHmmssSSSSSSSSS|America/New_York",
+            "dd/MM/yy HH:mm|Asia/Kathmandu",
+            "'o''clock' HH ''|Australia/Lord_Howe",
+            "uuuu-MM-dd'T'HH:mm:ss.S|UTC",
+            "EEE, d MMM yyyy HH:mm:ss|Europe/Warsaw",
+            "yyyy-MM-dd'T'HH:mm:ssXXX|America/New_York"
+    })
+    void shouldFormatToTargetsLikeString(String format, String zone) throws IOException {
+        //Given
+        var random = new SplittableRandom(format.hashCode());
+        var builder = new StringBuilder();
+        var bytes = new byte[64];
+        var heap = ByteBuffer.allocate(64);
+        var direct = ByteBuffer.allocateDirect(64);
+
+        for (int i = 0; i < 2_000; i++) {
+            var instant = Instant.ofEpochSecond(random.nextLong(-70_000_000_000L, 260_000_000_000L), random.nextInt(1_000_000_000));
+            var transformerFlow = getTransformerFlow(ZoneId.of(TIME_ZONE), instant.toString()).zoneId(ZoneId.of(zone));
+            var expected = transformerFlow.string(format);
+            builder.setLength(0);
+            heap.clear();
+            direct.clear();
+
+            //When
+            transformerFlow.formatTo(format, builder);
+            int written = transformerFlow.formatTo(format, bytes, 3);
+            transformerFlow.formatTo(format, heap).flip();
+            transformerFlow.formatTo(format, direct).flip();
+            var appendable = transformerFlow.formatTo(format, new StringWriter());
+
+            //Then
+            assertThat(builder.toString()).isEqualTo(expected);
+            assertThat(new String(bytes, 3, written, StandardCharsets.UTF_8)).isEqualTo(expected);
+            assertThat(StandardCharsets.UTF_8.decode(heap).toString()).isEqualTo(expected);
+            assertThat(StandardCharsets.UTF_8.decode(direct).toString()).isEqualTo(expected);
+            assertThat(appendable.toString()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldRejectTooSmallTargets() {
+        //Given
+        var transformerFlow = getTransformerFlow(ZoneId.of(TIME_ZONE), "2021-12-04T22:35:46.786Z");
+
+        //Then
+        assertThatThrownBy(() -> transformerFlow.formatTo(DATE_FORMAT, new byte[24], 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> transformerFlow.formatTo(DATE_FORMAT, ByteBuffer.allocate(23)))
+                .isInstanceOf(BufferOverflowException.class);
+    }
+
     private TransformerFlow getTransformerFlow(ZoneId zoneId, String currentDate) {
         return new TransformerFlow(zoneId, Instant.parse(currentDate), TimeZone.getTimeZone(zoneId));
     }
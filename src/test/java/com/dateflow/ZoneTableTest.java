@@ -0,0 +1,94 @@
+package com.dateflow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZoneTableTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTC", "Europe/Warsaw", "America/New_York", "Australia/Lord_Howe", "Asia/Kathmandu",
+            "America/Sao_Paulo", "Pacific/Apia", "Africa/Casablanca", "+05:30"})
+    void shouldMatchZonedDateTimeFields(String zone) {
+        //Given
+        var zoneId = ZoneId.of(zone);
+        var table = ZoneTable.of(zoneId, 1950, 2040);
+        var random = new SplittableRandom(zone.hashCode());
+        var fields = new MutableDateFields();
+
+        for (int i = 0; i < 20_000; i++) {
+            long epochSecond = random.nextLong(-5_000_000_000L, 5_000_000_000L);
+            int nano = random.nextInt(1_000_000_000);
+
+            //When
+            ZonedDateTime expected = Instant.ofEpochSecond(epochSecond, nano).atZone(zoneId);
+
+            //Then
+            assertThat(table.offsetSeconds(epochSecond)).isEqualTo(expected.getOffset().getTotalSeconds());
+            assertThat(table.year(epochSecond)).isEqualTo(expected.getYear());
+            assertThat(table.month(epochSecond)).isEqualTo(expected.getMonthValue());
+            assertThat(table.day(epochSecond)).isEqualTo(expected.getDayOfMonth());
+            assertThat(table.hour(epochSecond)).isEqualTo(expected.getHour());
+            assertThat(table.minutes(epochSecond)).isEqualTo(expected.getMinute());
+            assertThat(table.seconds(epochSecond)).isEqualTo(expected.getSecond());
+            assertThat(table.localDate(epochSecond)).isEqualTo(expected.toLocalDate());
+            assertThat(table.localDateTime(epochSecond, nano)).isEqualTo(expected.toLocalDateTime());
+            assertThat(table.fields(epochSecond, nano, fields).toDateFields()).isEqualTo(new DateFields(
+                    expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth(), expected.getHour(),
+                    expected.getMinute(), expected.getSecond(), nano));
+        }
+    }
+
+    @Test
+    void shouldSwitchOffsetExactlyAtTransition() {
+        //Given
+        var zoneId = ZoneId.of("Europe/Warsaw");
+        var table = ZoneTable.of(zoneId);
+        long transition = zoneId.getRules().nextTransition(Instant.parse("2021-01-01T00:00:00Z")).toEpochSecond();
+
+        //Then
+        assertThat(table.offsetSeconds(transition - 1)).isEqualTo(3_600);
+        assertThat(table.offsetSeconds(transition)).isEqualTo(7_200);
+        assertThat(table.hour(transition - 1)).isEqualTo(1);
+        assertThat(table.hour(transition)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldShareTablePerZone() {
+        //Given
+        var zoneId = ZoneId.of("Asia/Tokyo");
+
+        //Then
+        assertThat(ZoneTable.of(zoneId)).isSameAs(ZoneTable.of(ZoneId.of("Asia/Tokyo")));
+        assertThat(ZoneTable.of(zoneId, 2000, 2010)).isNotSameAs(ZoneTable.of(zoneId));
+    }
+
+    @Test
+    void shouldKeepOnlyTransitionsInsideRange() {
+        //Given
+        var zoneId = ZoneId.of("Europe/Warsaw");
+
+        //When
+        var table = ZoneTable.of(zoneId, 2020, 2021);
+
+        //Then
+        assertThat(table.transitionCount()).isEqualTo(4);
+        assertThat(table.localDateTime(Instant.parse("2030-07-01T10:00:00Z").getEpochSecond(), 0))
+                .isEqualTo(LocalDateTime.of(2030, 7, 1, 12, 0));
+    }
+
+    @Test
+    void shouldRejectInvertedRange() {
+        assertThatThrownBy(() -> ZoneTable.of(ZoneId.of("UTC"), 2021, 2020))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}